@@ -0,0 +1,85 @@
+package com.lenlino;
+
+import com.lenlino.core.KeyTranslator;
+import com.lenlino.core.TranslationKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the server-independent {@link KeyTranslator}. Nothing here touches the Bukkit API, so these
+ * numbers are what a proxy or a headless tool sees.
+ * {@link #lookupHashMap()} reads the same keys from a {@link HashMap} as a baseline for the compact key table.
+ * With {@code -p mapped=true} the language is memory-mapped from a temporary directory instead, which measures
+ * decoding on demand and the hot cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KeyTranslatorBenchmark {
+    private static final String[] IDS = {"minecraft:diamond", "stone", "minecraft:oak_log", "minecraft:unknown", "plugin:stone"};
+
+    @Param({"ja_jp"})
+    String languageCode;
+
+    @Param({"false", "true"})
+    boolean mapped;
+
+    KeyTranslator translator;
+    Map<String, String> hashMap;
+    String[] keys;
+    int index;
+
+    @Setup
+    public void setUp() throws IOException {
+        KeyTranslator.setMappedStoreDirectory(mapped ? Files.createTempDirectory("key-translator") : null);
+        translator = KeyTranslator.load(languageCode, TranslationKeys.domainPrefixes());
+        hashMap = new HashMap<>(translator.getAllTranslations());
+        keys = hashMap.keySet().toArray(new String[0]);
+    }
+
+    private int next(int length) {
+        int current = index;
+        index = current + 1 == length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public KeyTranslator load() throws IOException {
+        return KeyTranslator.load(languageCode, TranslationKeys.domainPrefixes());
+    }
+
+    @Benchmark
+    public String translate() {
+        return translator.translate(keys[next(keys.length)]);
+    }
+
+    @Benchmark
+    public String translateId() {
+        return translator.translateId("item", IDS[next(IDS.length)]);
+    }
+
+    @Benchmark
+    public String lookupHashMap() {
+        return hashMap.get(keys[next(keys.length)]);
+    }
+}
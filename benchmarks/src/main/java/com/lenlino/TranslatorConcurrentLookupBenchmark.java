@@ -0,0 +1,11 @@
+package com.lenlino;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The lookup benchmarks of {@link TranslatorLookupBenchmark}, run on as many threads as there are processors,
+ * to compare the aggregate throughput of concurrent readers such as async chat threads.
+ */
+@Threads(Threads.MAX)
+public class TranslatorConcurrentLookupBenchmark extends TranslatorLookupBenchmark {
+}
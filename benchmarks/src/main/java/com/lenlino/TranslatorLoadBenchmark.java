@@ -0,0 +1,41 @@
+package com.lenlino;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of loading a language, bypassing the instance cache.
+ * {@link #load()} is the full path taken by the first {@code getInstance} call followed by the first translation
+ * of each domain, which builds the tables that are resolved lazily. {@code LanguageReadBenchmark} in the core
+ * package isolates the two ways of reading the translation keys.
+ *
+ * <p>Use {@code -bm ss -wi 0 -i 1 -f 20} to measure the first load in a fresh JVM.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslatorLoadBenchmark {
+    @Param({"ja_jp"})
+    String languageCode;
+
+    @Benchmark
+    public McMaterialTranslator load() throws IOException {
+        McMaterialTranslator translator = McMaterialTranslator.load(languageCode);
+        translator.getFilledGapCount();
+        return translator;
+    }
+}
@@ -0,0 +1,110 @@
+package com.lenlino;
+
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded throughput of the lookup methods of {@link McMaterialTranslator}.
+ * Run with {@code -prof gc} to see the allocation rate of each method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TranslatorLookupBenchmark {
+    private static final String[] HIT_NAMES = {"DIAMOND_SWORD", "stone", "minecraft:oak_log", "ZOMBIE", "creeper"};
+    private static final String[] MISS_NAMES = {"NOT_A_MATERIAL", "diamond_swordx", "minecraft:unknown", "xyz", "plugin:stone"};
+
+    McMaterialTranslator translator;
+    Material[] materials;
+    EntityType[] entityTypes;
+    Material[] inventory;
+    String[] inventoryNames;
+    int index;
+
+    @Setup
+    public void setUp() {
+        translator = McMaterialTranslator.getInstance("ja_jp");
+        materials = Material.values();
+        entityTypes = EntityType.values();
+        inventory = Arrays.copyOf(materials, 54);
+        inventoryNames = new String[inventory.length];
+    }
+
+    private int next(int length) {
+        int current = index;
+        index = current + 1 == length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public String translateMaterial() {
+        return translator.translate(materials[next(materials.length)]);
+    }
+
+    @Benchmark
+    public String translateEntityType() {
+        return translator.translate(entityTypes[next(entityTypes.length)]);
+    }
+
+    @Benchmark
+    public String translateStringHit() {
+        return translator.translate(HIT_NAMES[next(HIT_NAMES.length)]);
+    }
+
+    @Benchmark
+    public String translateStringMiss() {
+        return translator.translate(MISS_NAMES[next(MISS_NAMES.length)]);
+    }
+
+    @Benchmark
+    public boolean hasTranslation() {
+        return translator.hasTranslation(materials[next(materials.length)]);
+    }
+
+    @Benchmark
+    public String translateStatic() {
+        return McMaterialTranslator.translate(materials[next(materials.length)], "ja_jp");
+    }
+
+    @Benchmark
+    public String[] translateAllInventory() {
+        translator.translateAll(inventory, inventoryNames);
+        return inventoryNames;
+    }
+
+    @Benchmark
+    public Map<Material, String> getAllTranslations() {
+        return translator.getAllTranslations();
+    }
+
+    @Benchmark
+    public Map<EntityType, String> getAllEntityTranslations() {
+        return translator.getAllEntityTranslations();
+    }
+
+    @Benchmark
+    public int iterateAllTranslations() {
+        int length = 0;
+        for (Map.Entry<Material, String> entry : translator.getAllTranslations().entrySet()) {
+            length += entry.getValue().length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,56 @@
+package com.lenlino.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the two ways of reading the translation keys of a bundled language: the streaming JSON reader and the
+ * precompiled binary pack. The readers are internal to the core module, so this benchmark lives in its package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LanguageReadBenchmark {
+    @Param({"ja_jp"})
+    String languageCode;
+
+    @Benchmark
+    public Map<String, String> readJson() throws IOException {
+        try (InputStream inputStream = open(".json")) {
+            return LanguageFileReader.read(inputStream, TranslationKeys.DOMAIN_PREFIXES);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> readPack() throws IOException {
+        try (InputStream inputStream = open(LanguagePack.EXTENSION)) {
+            return LanguagePack.read(ByteBuffer.wrap(inputStream.readAllBytes()));
+        }
+    }
+
+    private InputStream open(String extension) throws IOException {
+        String resourcePath = "lang/" + languageCode + extension;
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            throw new IOException("Could not find " + resourcePath);
+        }
+        return inputStream;
+    }
+}
@@ -0,0 +1,116 @@
+package com.lenlino;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A sorted array of the translated names and identifiers of one domain, used to complete what a player is typing.
+ * Names are compared in the folded form of {@link SearchIndex#fold(CharSequence)}.
+ *
+ * <p>Completing a prefix folds it into a buffer owned by the calling thread, finds the first match by binary search
+ * and copies the following matches into the caller's array, so it does not allocate.</p>
+ */
+final class CompletionIndex {
+    private static final ThreadLocal<char[]> PREFIX_BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    private final String[] keys;
+    private final String[] suggestions;
+
+    /**
+     * Creates an index over the constants of a domain. Each constant is suggested by its translated name, if it has
+     * one, and by its identifier.
+     *
+     * @param constants The constants of the domain; null elements are skipped
+     * @param translation Gets the translated name of a constant, or null if it has none
+     * @param identifier Gets the identifier of a constant, e.g. "diamond_sword", or null if it has none
+     * @param <T> The type of the constants
+     */
+    <T> CompletionIndex(T[] constants, Function<T, String> translation, Function<T, String> identifier) {
+        String[][] entries = new String[constants.length * 2][];
+        int count = 0;
+        for (T constant : constants) {
+            if (constant == null) {
+                continue;
+            }
+            String translated = translation.apply(constant);
+            String id = identifier.apply(constant);
+            if (translated != null) {
+                entries[count++] = new String[]{SearchIndex.fold(translated), translated};
+            }
+            if (id != null && !id.equals(translated)) {
+                entries[count++] = new String[]{SearchIndex.fold(id), id};
+            }
+        }
+        Arrays.sort(entries, 0, count, (a, b) -> a[0].compareTo(b[0]));
+
+        this.keys = new String[count];
+        this.suggestions = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = entries[i][0];
+            suggestions[i] = entries[i][1];
+        }
+    }
+
+    /**
+     * Copies the names starting with a prefix into an array, in the order of their folded form.
+     *
+     * @param prefix The prefix typed so far
+     * @param results The array to fill; its length is the maximum number of completions
+     * @return The number of completions written to the array
+     */
+    int complete(CharSequence prefix, String[] results) {
+        char[] key = PREFIX_BUFFER.get();
+        if (key.length < prefix.length()) {
+            key = new char[prefix.length()];
+            PREFIX_BUFFER.set(key);
+        }
+        int length = SearchIndex.fold(prefix, key);
+
+        int count = 0;
+        for (int i = lowerBound(key, length); i < keys.length && count < results.length
+                && startsWith(keys[i], key, length); i++) {
+            results[count++] = suggestions[i];
+        }
+        return count;
+    }
+
+    private int lowerBound(char[] key, int length) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], key, length) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares a name with a prefix in the same way as {@link String#compareTo(String)}.
+     */
+    private static int compare(String name, char[] key, int length) {
+        int common = Math.min(name.length(), length);
+        for (int i = 0; i < common; i++) {
+            int difference = name.charAt(i) - key[i];
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return name.length() - length;
+    }
+
+    private static boolean startsWith(String name, char[] key, int length) {
+        if (name.length() < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
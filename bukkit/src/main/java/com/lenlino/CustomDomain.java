@@ -0,0 +1,45 @@
+package com.lenlino;
+
+import java.util.function.Function;
+
+/**
+ * A kind of name registered with {@link McMaterialTranslator#registerDomain(String, Function)}, such as biomes,
+ * villager professions, attributes or game rules.
+ * A domain is defined by the prefix of its translation keys and a function that maps the rest of a key to the
+ * translated object.
+ *
+ * @param <T> The type of the translated objects
+ */
+public final class CustomDomain<T> {
+    private final String keyPrefix;
+    private final Function<String, ? extends T> keyExtractor;
+
+    CustomDomain(String keyPrefix, Function<String, ? extends T> keyExtractor) {
+        this.keyPrefix = keyPrefix;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Gets the prefix of the translation keys of this domain, e.g. {@code "biome.minecraft."}.
+     *
+     * @return The key prefix
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * Maps a translation key of this domain to the translated object.
+     *
+     * @param keySuffix The translation key without the prefix, e.g. "plains"
+     * @return The translated object, or null if the key does not name one
+     */
+    T extract(String keySuffix) {
+        return keyExtractor.apply(keySuffix);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomDomain{" + keyPrefix + "}";
+    }
+}
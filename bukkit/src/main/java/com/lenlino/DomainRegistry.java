@@ -0,0 +1,161 @@
+package com.lenlino;
+
+import com.lenlino.core.TranslationKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The custom domains registered with {@link McMaterialTranslator#registerDomain(String, java.util.function.Function)}.
+ * Registration is rare, so every change publishes a new immutable {@link Dispatcher} that lookups read without
+ * locking.
+ */
+final class DomainRegistry {
+    private static final List<CustomDomain<?>> domains = new ArrayList<>();
+    private static volatile Dispatcher dispatcher = new Dispatcher(List.of());
+
+    private DomainRegistry() {
+    }
+
+    /**
+     * Registers a domain and publishes a new dispatcher.
+     *
+     * @param domain The domain to register
+     * @throws IllegalArgumentException If a domain with the same key prefix is already registered
+     */
+    static synchronized void register(CustomDomain<?> domain) {
+        for (CustomDomain<?> registered : domains) {
+            if (registered.getKeyPrefix().equals(domain.getKeyPrefix())) {
+                throw new IllegalArgumentException("A domain with the key prefix " + domain.getKeyPrefix()
+                        + " is already registered");
+            }
+        }
+        domains.add(domain);
+        dispatcher = new Dispatcher(domains);
+    }
+
+    static synchronized boolean unregister(CustomDomain<?> domain) {
+        boolean removed = domains.remove(domain);
+        if (removed) {
+            dispatcher = new Dispatcher(domains);
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the dispatcher of the domains registered at the time of the call.
+     *
+     * @return The dispatcher
+     */
+    static Dispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Gets the key prefixes to keep when reading a language file: those of the built-in domains and of every
+     * registered domain.
+     *
+     * @return The key prefixes
+     */
+    static String[] keyPrefixes() {
+        return dispatcher.keyPrefixes;
+    }
+
+    /**
+     * Routes translation keys to the domain with the longest matching prefix.
+     * The prefixes are stored in a character trie, so dispatching a key costs at most one step per character of the
+     * longest prefix however many domains are registered.
+     */
+    static final class Dispatcher {
+        private final Node root = new Node();
+        private final String[] keyPrefixes;
+        private final boolean empty;
+
+        private Dispatcher(List<CustomDomain<?>> domains) {
+            List<String> prefixes = new ArrayList<>(Arrays.asList(TranslationKeys.domainPrefixes()));
+            for (CustomDomain<?> domain : domains) {
+                Node node = root;
+                for (int i = 0; i < domain.getKeyPrefix().length(); i++) {
+                    node = node.childOrCreate(domain.getKeyPrefix().charAt(i));
+                }
+                node.domain = domain;
+                prefixes.add(domain.getKeyPrefix());
+            }
+            this.keyPrefixes = prefixes.toArray(new String[0]);
+            this.empty = domains.isEmpty();
+        }
+
+        /**
+         * Sorts the translation keys of a language into the tables of the registered domains in a single pass.
+         * A key whose domain fails to extract it is reported and skipped, so one faulty extractor cannot prevent a
+         * language from loading.
+         *
+         * @param entries The translation keys and values of the language
+         * @return The translations of each registered domain that has at least one translation
+         */
+        Map<CustomDomain<?>, Map<Object, String>> dispatch(Map<String, String> entries) {
+            if (empty) {
+                return Map.of();
+            }
+            Map<CustomDomain<?>, Map<Object, String>> tables = new HashMap<>();
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                String key = entry.getKey();
+                Node node = root;
+                CustomDomain<?> domain = null;
+                int prefixLength = 0;
+                for (int i = 0; i < key.length() && node != null; i++) {
+                    node = node.child(key.charAt(i));
+                    if (node != null && node.domain != null) {
+                        domain = node.domain;
+                        prefixLength = i + 1;
+                    }
+                }
+                if (domain != null) {
+                    Object target;
+                    try {
+                        target = domain.extract(key.substring(prefixLength));
+                    } catch (RuntimeException e) {
+                        new IllegalStateException("The domain " + domain.getKeyPrefix()
+                                + " cannot extract the key " + key, e).printStackTrace();
+                        continue;
+                    }
+                    if (target != null) {
+                        tables.computeIfAbsent(domain, d -> new HashMap<>()).put(target, entry.getValue());
+                    }
+                }
+            }
+            tables.replaceAll((domain, table) -> Map.copyOf(table));
+            return Map.copyOf(tables);
+        }
+    }
+
+    private static final class Node {
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private CustomDomain<?> domain;
+
+        Node child(char c) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                chars = Arrays.copyOf(chars, chars.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                chars[chars.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
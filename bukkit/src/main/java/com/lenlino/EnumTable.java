@@ -0,0 +1,154 @@
+package com.lenlino;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A frozen translation table for an enum domain.
+ * Values are stored in a dense array indexed by {@link Enum#ordinal()}, so a lookup is a single array read.
+ *
+ * @param <E> The enum type used as key
+ */
+final class EnumTable<E extends Enum<E>> {
+    private final E[] universe;
+    private final String[] values;
+    private final int size;
+    private final Map<E, String> view;
+
+    /**
+     * Creates a table from an array of translations indexed by ordinal.
+     * The array is owned by the table afterwards and must not be modified by the caller.
+     *
+     * @param universe All constants of the enum, as returned by {@code values()}
+     * @param values The translations indexed by ordinal, with {@code null} for missing entries
+     */
+    EnumTable(E[] universe, String[] values) {
+        this.universe = universe;
+        this.values = values;
+        int count = 0;
+        for (String value : values) {
+            if (value != null) {
+                count++;
+            }
+        }
+        this.size = count;
+        this.view = new View();
+    }
+
+    /**
+     * Gets the translation for the given constant.
+     *
+     * @param key The constant to look up
+     * @return The translation, or null if there is none
+     */
+    String get(E key) {
+        return values[key.ordinal()];
+    }
+
+    /**
+     * Checks if a translation exists for the given constant.
+     *
+     * @param key The constant to check
+     * @return true if a translation exists, false otherwise
+     */
+    boolean contains(E key) {
+        return key != null && values[key.ordinal()] != null;
+    }
+
+    /**
+     * Gets the number of translated constants.
+     *
+     * @return The number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets an unmodifiable map view of this table. The same instance is returned on every call.
+     *
+     * @return The map view
+     */
+    Map<E, String> asMap() {
+        return view;
+    }
+
+    /**
+     * Read-only map view backed directly by the ordinal array.
+     */
+    private final class View extends AbstractMap<E, String> {
+        private final Set<Entry<E, String>> entrySet = new EntrySet();
+
+        @Override
+        public String get(Object key) {
+            int index = indexOf(key);
+            return index >= 0 ? values[index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int index = indexOf(key);
+            return index >= 0 && values[index] != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<E, String>> entrySet() {
+            return entrySet;
+        }
+
+        private int indexOf(Object key) {
+            if (key instanceof Enum<?> constant) {
+                int ordinal = constant.ordinal();
+                if (ordinal < universe.length && universe[ordinal] == key) {
+                    return ordinal;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<E, String>> {
+        @Override
+        public Iterator<Map.Entry<E, String>> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    while (from < values.length && values[from] == null) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public Map.Entry<E, String> next() {
+                    if (next >= values.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = next;
+                    next = advance(index + 1);
+                    return new AbstractMap.SimpleImmutableEntry<>(universe[index], values[index]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,1635 @@
+package com.lenlino;
+
+import com.lenlino.core.CacheStats;
+import com.lenlino.core.KeyTranslator;
+import com.lenlino.core.LanguageCache;
+import com.lenlino.core.LanguageSource;
+import com.lenlino.core.TranslationKeys;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * A utility class for translating Minecraft material, entity, effect, and enchantment names to different languages.
+ */
+public class McMaterialTranslator {
+    private static final String DEFAULT_LANGUAGE = "ja_jp";
+
+
+    private static final LanguageCache<McMaterialTranslator> instances = new LanguageCache<>();
+    private static final Map<String, McMaterialTranslator> placeholders = new ConcurrentHashMap<>();
+    private static volatile Executor loadExecutor = ForkJoinPool.commonPool();
+    private static volatile boolean metricsEnabled;
+    private final String languageCode;
+    private final boolean placeholder;
+    private volatile Translations translations;
+    private volatile long loadNanos;
+    /**
+     * The metrics of this translator, created when lookups are first counted or the metrics are first requested.
+     */
+    private volatile TranslatorMetrics metrics;
+
+    private static final AtomicReferenceFieldUpdater<McMaterialTranslator, TranslatorMetrics> METRICS =
+            AtomicReferenceFieldUpdater.newUpdater(McMaterialTranslator.class, TranslatorMetrics.class, "metrics");
+
+    private static final List<Consumer<ReloadResult>> reloadListeners = new CopyOnWriteArrayList<>();
+    private static final Map<String, List<String>> fallbackChains = new ConcurrentHashMap<>();
+    private static OverrideWatcher overrideWatcher;
+
+    static {
+        instances.pin(DEFAULT_LANGUAGE);
+    }
+
+    /**
+     * Gets the singleton instance of the translator with the default language (Japanese).
+     *
+     * @return The translator instance
+     */
+    public static McMaterialTranslator getInstance() {
+        return getInstance(DEFAULT_LANGUAGE);
+    }
+
+    /**
+     * Gets the singleton instance of the translator for the specified language.
+     * If the language has not been loaded yet, it is loaded on the calling thread, or the call waits for a load
+     * that is already running. If the language cannot be loaded, the failure is reported once and a placeholder
+     * translator is returned; the load is only retried after the delay set with
+     * {@link #setCacheRetryAfterFailure(Duration)}, so calls in the meantime do no I/O.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @return The translator instance for the specified language
+     */
+    public static McMaterialTranslator getInstance(String languageCode) {
+        try {
+            return getInstanceAsync(languageCode, Runnable::run).join();
+        } catch (CompletionException e) {
+            return getPlaceholder(languageCode);
+        }
+    }
+
+    /**
+     * Gets the translator for the specified language without blocking.
+     * If the language has not been loaded yet, it is loaded on the executor set by {@link #setLoadExecutor(Executor)}.
+     * The returned future fails if the language cannot be loaded; calls within the retry delay set with
+     * {@link #setCacheRetryAfterFailure(Duration)} get the same failed future, and a later call starts a new load.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @return A future completed with the translator for the specified language
+     */
+    public static CompletableFuture<McMaterialTranslator> getInstanceAsync(String languageCode) {
+        return getInstanceAsync(languageCode, loadExecutor);
+    }
+
+    /**
+     * Gets the translator for the specified language without blocking, loading it on the given executor if needed.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @param executor The executor to load the language on
+     * @return A future completed with the translator for the specified language
+     */
+    public static CompletableFuture<McMaterialTranslator> getInstanceAsync(String languageCode, Executor executor) {
+        return instances.getOrLoad(languageCode, executor, McMaterialTranslator::load);
+    }
+
+    /**
+     * Gets the translator for the specified language if it is loaded, or a placeholder translator otherwise.
+     * A load is started in the background if needed, so this method never waits for I/O.
+     * The placeholder has no translations and returns the raw names of materials, entities, effects and enchantments.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @return The loaded translator, or a placeholder translator while it is loading
+     */
+    public static McMaterialTranslator getInstanceOrPlaceholder(String languageCode) {
+        CompletableFuture<McMaterialTranslator> future = getInstanceAsync(languageCode);
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return future.join();
+        }
+        return getPlaceholder(languageCode);
+    }
+
+    /**
+     * Loads several languages in parallel on the executor set by {@link #setLoadExecutor(Executor)}.
+     *
+     * @param languageCodes The language codes to load
+     * @return A future completed when all languages are loaded, or failed if any of them cannot be loaded
+     */
+    public static CompletableFuture<Void> preload(Collection<String> languageCodes) {
+        return preload(languageCodes, loadExecutor);
+    }
+
+    /**
+     * Loads several languages in parallel on the given executor.
+     *
+     * @param languageCodes The language codes to load
+     * @param executor The executor to load the languages on
+     * @return A future completed when all languages are loaded, or failed if any of them cannot be loaded
+     */
+    public static CompletableFuture<Void> preload(Collection<String> languageCodes, Executor executor) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[languageCodes.size()];
+        int index = 0;
+        for (String languageCode : languageCodes) {
+            futures[index++] = getInstanceAsync(languageCode, executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Sets the executor used by {@link #getInstanceAsync(String)}, {@link #getInstanceOrPlaceholder(String)} and
+     * {@link #preload(Collection)}. The default is the common fork-join pool.
+     *
+     * @param executor The executor to load languages on
+     */
+    public static void setLoadExecutor(Executor executor) {
+        loadExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Limits the number of languages kept in memory. When more languages are loaded, the least recently used ones
+     * that are not pinned are evicted. An evicted language is loaded again the next time it is requested.
+     * By default the number of languages is not limited.
+     *
+     * @param maximumSize The maximum number of cached languages
+     */
+    public static void setCacheMaximumSize(int maximumSize) {
+        instances.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Evicts languages that are not pinned and have not been requested for the given duration.
+     * Idle languages are detected when a language is loaded, and by requests for loaded languages at most once per
+     * expiry interval, so no scheduled task is needed. {@link #cleanUpCache()} applies the policy at once.
+     * By default languages never expire.
+     *
+     * @param duration The idle time after which a language is evicted, or null to disable expiry
+     */
+    public static void setCacheExpireAfterAccess(Duration duration) {
+        instances.setExpireAfterAccess(duration);
+    }
+
+    /**
+     * Sets how long a language that failed to load is remembered as failed. Until the delay has passed, requests for
+     * the language fail or get a placeholder without reading any files; the next request after it loads the language
+     * again. Adding a language source, changing the override directory or registering a domain forgets the failures
+     * at once. The default is one minute.
+     *
+     * @param delay The delay before a language that failed to load is loaded again
+     */
+    public static void setCacheRetryAfterFailure(Duration delay) {
+        instances.setRetryAfterFailure(delay);
+    }
+
+    /**
+     * Pins a language so it is never evicted by the cache policy. The default language is pinned.
+     *
+     * @param languageCode The language code to pin
+     */
+    public static void pinLanguage(String languageCode) {
+        instances.pin(languageCode);
+    }
+
+    /**
+     * Unpins a language so it can be evicted by the cache policy again.
+     *
+     * @param languageCode The language code to unpin
+     */
+    public static void unpinLanguage(String languageCode) {
+        instances.unpin(languageCode);
+    }
+
+    /**
+     * Evicts a language from the cache, even if it is pinned. It is loaded again the next time it is requested.
+     * Translators that were already obtained for the language keep working.
+     *
+     * @param languageCode The language code to evict
+     * @return true if the language was cached
+     */
+    public static boolean evictLanguage(String languageCode) {
+        return instances.invalidate(languageCode);
+    }
+
+    /**
+     * Applies the cache policy now, evicting idle languages and languages over the size limit.
+     */
+    public static void cleanUpCache() {
+        instances.cleanUp();
+    }
+
+    /**
+     * Gets the statistics of the language cache.
+     *
+     * @return A snapshot of the cache size, load count and eviction count
+     */
+    public static CacheStats getCacheStats() {
+        return instances.stats();
+    }
+
+    /**
+     * Gets the placeholder translator for the specified language.
+     * It has no translations and returns the raw names of materials, entities, effects and enchantments.
+     * The same placeholder is returned while the language is loading or failed to load. Placeholders of languages
+     * that have been loaded or have left the cache are dropped when a new placeholder is created, so language codes
+     * sent by clients do not accumulate.
+     *
+     * @param languageCode The language code
+     * @return The placeholder translator
+     */
+    public static McMaterialTranslator getPlaceholder(String languageCode) {
+        McMaterialTranslator placeholder = placeholders.get(languageCode);
+        if (placeholder == null) {
+            placeholders.keySet().removeIf(code -> !instances.contains(code) || instances.getIfLoaded(code) != null);
+            placeholder = placeholders.computeIfAbsent(languageCode, McMaterialTranslator::new);
+        }
+        return placeholder;
+    }
+
+    /**
+     * Loads a new translator for a language without caching it.
+     * Its strings are drawn from the string pool shared by all languages.
+     *
+     * @param languageCode The language code to load
+     * @return The loaded translator
+     * @throws IOException If the language cannot be read
+     */
+    static McMaterialTranslator load(String languageCode) throws IOException {
+        long start = System.nanoTime();
+        McMaterialTranslator translator = new McMaterialTranslator(languageCode,
+                resolveTranslations(languageCode, readEntries(languageCode)));
+        translator.loadNanos = System.nanoTime() - start;
+        return translator;
+    }
+
+    /**
+     * Resolves the translations of a language and fills its gaps from the languages of its fallback chain, in
+     * order. A fallback language that cannot be read is skipped.
+     *
+     * <p>The fallback languages are merged into the translation keys before they are frozen, so a lookup is a single
+     * read and the translator does not keep the tables of its fallback languages. Their keys are only held while the
+     * language is resolved.</p>
+     *
+     * @param languageCode The language code of the translations
+     * @param entries The mutable translation keys and values of the language, as read
+     * @return The resolved translations
+     * @throws IOException If the translations cannot be stored
+     */
+    private static Translations resolveTranslations(String languageCode, Map<String, String> entries) throws IOException {
+        int merged = 0;
+        for (String fallbackLanguage : getFallbackChain(languageCode)) {
+            try {
+                merged += Translations.mergeFallback(entries, readEntries(fallbackLanguage));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return Translations.resolve(KeyTranslator.of(languageCode, entries), merged);
+    }
+
+    /**
+     * Gets the number of distinct translation strings shared by all loaded languages.
+     * Equal translations of different languages are stored once, so this grows with the number of distinct strings
+     * rather than with the number of languages.
+     *
+     * @return The number of pooled strings
+     */
+    public static int getPooledStringCount() {
+        return KeyTranslator.getPooledStringCount();
+    }
+
+    /**
+     * Gets the estimated heap memory saved by sharing equal translation strings between languages.
+     * Only languages that are still loaded are counted; a reloaded or unloaded language stops counting once its old
+     * table is garbage collected.
+     *
+     * @return The estimated number of bytes saved
+     */
+    public static long getPooledBytesSaved() {
+        return KeyTranslator.getPooledBytesSaved();
+    }
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     *
+     * @param languageCode The language code of the translations
+     * @param translations The resolved translations of the language
+     */
+    private McMaterialTranslator(String languageCode, Translations translations) {
+        this.languageCode = languageCode;
+        this.placeholder = false;
+        this.translations = translations;
+    }
+
+    /**
+     * Creates a placeholder translator without any translations.
+     *
+     * @param languageCode The language code of the placeholder
+     */
+    private McMaterialTranslator(String languageCode) {
+        this.languageCode = languageCode;
+        this.placeholder = true;
+        this.translations = Translations.EMPTY;
+    }
+
+    /**
+     * Gets the language code for this translator instance.
+     *
+     * @return The language code
+     */
+    public String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Checks if this translator is a placeholder without translations.
+     *
+     * @return true if this is a placeholder, false if the translations of the language are loaded
+     */
+    public boolean isPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * Gets the number of materials, entity types, potion effect types and enchantments whose translation was
+     * taken from a fallback language because this language has none.
+     *
+     * @return The number of gaps filled from the fallback chain
+     * @see #setFallbackChain(String, String...)
+     */
+    public int getFilledGapCount() {
+        return translations.filledGaps();
+    }
+
+    /**
+     * Gets the current translations of this translator.
+     *
+     * @return The translations
+     */
+    Translations translations() {
+        return translations;
+    }
+
+    /**
+     * Enables or disables counting lookups for {@link #getMetrics()}. Metrics are disabled by default, and a lookup
+     * then costs a single extra field read; no metrics are allocated until they are enabled or requested. While
+     * enabled, every {@code translate} call counts a hit or a miss in
+     * striped counters of its language and domain.
+     *
+     * @param enabled true to count lookups, false to stop counting them
+     */
+    public static void setMetricsEnabled(boolean enabled) {
+        metricsEnabled = enabled;
+    }
+
+    /**
+     * Checks if lookups are counted.
+     *
+     * @return true if metrics are enabled
+     */
+    public static boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Gets the usage statistics of this translator: lookup hits and misses per domain, the time of the latest load
+     * and the number of translations and missing keys.
+     *
+     * @return The metrics of this translator
+     */
+    public TranslatorMetrics getMetrics() {
+        TranslatorMetrics current = metrics;
+        if (current == null) {
+            METRICS.compareAndSet(this, null, new TranslatorMetrics(this));
+            current = metrics;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the time taken by the latest load or reload of this translator.
+     *
+     * @return The load time in nanoseconds, or zero for a placeholder translator
+     */
+    long loadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Gets the usage statistics of every loaded language, e.g. to export them to a monitoring system.
+     *
+     * @return The metrics of the loaded translators
+     */
+    public static List<TranslatorMetrics> getLoadedMetrics() {
+        List<TranslatorMetrics> loaded = new ArrayList<>();
+        for (McMaterialTranslator translator : instances.loadedValues()) {
+            loaded.add(translator.getMetrics());
+        }
+        return loaded;
+    }
+
+    /**
+     * Registers a custom domain of names, such as biomes, villager professions, attributes or game rules.
+     * The domain is defined by the prefix of its translation keys and a function that maps the rest of a key to the
+     * translated object, for example:
+     *
+     * <pre>{@code
+     * CustomDomain<Biome> biomes = McMaterialTranslator.registerDomain("biome.minecraft.",
+     *         key -> Registry.BIOME.get(NamespacedKey.minecraft(key)));
+     * String plains = translator.translate(biomes, Biome.PLAINS);
+     * }</pre>
+     *
+     * <p>The tables of all custom domains are filled in a single pass over the translation keys of a language, in
+     * which each key is routed to the domain with the longest matching prefix, so loading stays linear in the size of
+     * the language file however many domains are registered. Loaded languages are reloaded in the background to pick
+     * up the keys of the new domain. While custom domains are registered, bundled languages are read from their JSON
+     * file instead of the precompiled pack.</p>
+     *
+     * @param keyPrefix The prefix of the translation keys of the domain, e.g. {@code "biome.minecraft."}
+     * @param keyExtractor Maps a translation key without the prefix to the translated object, or to null to skip it
+     * @param <T> The type of the translated objects
+     * @return The registered domain, used to translate its objects
+     * @throws IllegalArgumentException If the key prefix is empty or a domain with the same prefix is registered
+     */
+    public static <T> CustomDomain<T> registerDomain(String keyPrefix, Function<String, ? extends T> keyExtractor) {
+        Objects.requireNonNull(keyPrefix, "keyPrefix");
+        Objects.requireNonNull(keyExtractor, "keyExtractor");
+        if (keyPrefix.isEmpty()) {
+            throw new IllegalArgumentException("The key prefix must not be empty");
+        }
+        CustomDomain<T> domain = new CustomDomain<>(keyPrefix, keyExtractor);
+        DomainRegistry.register(domain);
+        reloadChanged(null);
+        return domain;
+    }
+
+    /**
+     * Unregisters a custom domain registered with {@link #registerDomain(String, Function)}.
+     * Loaded languages keep its translations until they are reloaded.
+     *
+     * @param domain The domain to unregister
+     */
+    public static void unregisterDomain(CustomDomain<?> domain) {
+        DomainRegistry.unregister(domain);
+    }
+
+    /**
+     * Reads the translation keys of a language.
+     * The keys are read from the first language source that has the language, or else from the files bundled with
+     * this library: the precompiled language pack when present, otherwise the JSON file. Only keys of the built-in
+     * domains and of the registered custom domains are kept. Keys from the override directory, if one is set, replace them.
+     *
+     * @param languageCode The language code to read
+     * @return A map of translation keys to values
+     * @throws IOException If the language is not available from any source, or cannot be read
+     */
+    static Map<String, String> readEntries(String languageCode) throws IOException {
+        return KeyTranslator.readEntries(languageCode, DomainRegistry.keyPrefixes());
+    }
+
+    /**
+     * Adds a source of language files, such as the asset store of a Minecraft installation or a ZIP file with
+     * language files. Sources are consulted in the order they were added, before the languages bundled with this
+     * library, and each language is read from them only when it is first requested.
+     * Languages that are already loaded keep their translations until they are reloaded.
+     *
+     * @param source The language source to add
+     * @see LanguageSource#assetIndex(Path, String)
+     * @see LanguageSource#zip(Path)
+     */
+    public static void addLanguageSource(LanguageSource source) {
+        KeyTranslator.addLanguageSource(source);
+        instances.invalidateFailures();
+    }
+
+    /**
+     * Removes a language source added with {@link #addLanguageSource(LanguageSource)}.
+     * The source is not closed.
+     *
+     * @param source The language source to remove
+     */
+    public static void removeLanguageSource(LanguageSource source) {
+        KeyTranslator.removeLanguageSource(source);
+    }
+
+    /**
+     * Sets the languages whose translations fill the gaps of a language, e.g. {@code "pt_br"} falling back to
+     * {@code "pt_pt"} and then {@code "en_us"}. The chain is resolved once when the language is loaded: every
+     * material, entity type, potion effect type or enchantment without a translation takes the translation of the
+     * first fallback language that has one, so a lookup is a single read however long the chain is. Constants
+     * without a translation in any language of the chain still translate to their name.
+     *
+     * <p>The chain is not transitive: the fallback chains of the fallback languages are not followed.
+     * If the language is loaded, it is reloaded in the background.</p>
+     *
+     * @param languageCode The language code whose gaps to fill
+     * @param fallbackLanguages The fallback language codes in order of preference, or none to remove the chain
+     */
+    public static void setFallbackChain(String languageCode, String... fallbackLanguages) {
+        Objects.requireNonNull(languageCode, "languageCode");
+        List<String> chain = List.of(fallbackLanguages);
+        if (chain.contains(languageCode)) {
+            throw new IllegalArgumentException("A language cannot fall back to itself: " + languageCode);
+        }
+        if (chain.isEmpty()) {
+            fallbackChains.remove(languageCode);
+        } else {
+            fallbackChains.put(languageCode, chain);
+        }
+        reload(languageCode).exceptionally(McMaterialTranslator::reportReloadFailure);
+    }
+
+    /**
+     * Gets the languages whose translations fill the gaps of a language.
+     *
+     * @param languageCode The language code
+     * @return The fallback language codes in order of preference, or an empty list if there is no chain
+     */
+    public static List<String> getFallbackChain(String languageCode) {
+        return fallbackChains.getOrDefault(languageCode, List.of());
+    }
+
+    /**
+     * Sets a directory with language files whose keys replace the bundled translations, e.g. the data folder of
+     * a plugin. A file named {@code <language code>.json} overrides that language; it may also add a language that
+     * is not bundled.
+     *
+     * <p>The directory is watched for changes. When an override file is created, changed or deleted, the affected
+     * language is reloaded in the background and its new translations are published at once, so readers on other
+     * threads never see a partially reloaded language. Loaded languages are reloaded right away.</p>
+     *
+     * @param directory The override directory, or null to stop using overrides
+     * @throws IOException If the directory cannot be created or watched
+     */
+    public static synchronized void setOverrideDirectory(Path directory) throws IOException {
+        if (overrideWatcher != null) {
+            overrideWatcher.close();
+            overrideWatcher = null;
+        }
+        if (directory != null) {
+            Files.createDirectories(directory);
+            overrideWatcher = OverrideWatcher.start(directory, McMaterialTranslator::reloadChanged);
+        }
+        KeyTranslator.setOverrideDirectory(directory);
+        reloadChanged(null);
+    }
+
+    /**
+     * Gets the directory with language files that override the bundled translations.
+     *
+     * @return The override directory, or null if none is set
+     */
+    public static Path getOverrideDirectory() {
+        return KeyTranslator.getOverrideDirectory();
+    }
+
+    /**
+     * Keeps the translations of languages loaded from now on in memory-mapped files in a directory instead of on the
+     * heap. Each language is stored once as a compact UTF-8 table, together with the translations it takes from its
+     * fallback chain, so a lookup is a single read; servers on the same host that use the same directory, e.g.
+     * {@code /dev/shm/mc-translations}, map the same file and share it through the page cache.
+     * Translations are decoded when they are looked up, and recently used ones are kept in a small cache shared by
+     * all languages, so the heap used no longer grows with the number of languages.
+     *
+     * <p>{@link #getAllTranslations()}, sorted views, search and completion still build their tables on the heap
+     * when they are used. Loaded languages are reloaded right away.</p>
+     *
+     * @param directory The directory shared by the servers, or null to keep translations on the heap
+     * @throws IOException If the directory cannot be created
+     */
+    public static synchronized void setMappedStoreDirectory(Path directory) throws IOException {
+        KeyTranslator.setMappedStoreDirectory(directory);
+        reloadChanged(null);
+    }
+
+    /**
+     * Gets the directory in which translations are memory-mapped.
+     *
+     * @return The mapped store directory, or null if translations are kept on the heap
+     */
+    public static Path getMappedStoreDirectory() {
+        return KeyTranslator.getMappedStoreDirectory();
+    }
+
+    /**
+     * Adds a listener that is called on the reloading thread after a language has been reloaded.
+     *
+     * @param listener The listener to add
+     */
+    public static void addReloadListener(Consumer<ReloadResult> listener) {
+        reloadListeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Removes a listener added with {@link #addReloadListener(Consumer)}.
+     *
+     * @param listener The listener to remove
+     */
+    public static void removeReloadListener(Consumer<ReloadResult> listener) {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * Reloads a language in the background if it is loaded.
+     * A language that is not loaded picks up the current files the next time it is requested.
+     *
+     * @param languageCode The language code to reload
+     * @return A future completed with the result of the reload, or with null if the language is not loaded
+     */
+    public static CompletableFuture<ReloadResult> reload(String languageCode) {
+        McMaterialTranslator translator = instances.getIfLoaded(languageCode);
+        return translator != null ? translator.reload() : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Reloads the translations of this translator in the background on the executor set by
+     * {@link #setLoadExecutor(Executor)}. Until the reload completes, the previous translations are served.
+     * If the reload fails, the previous translations are kept.
+     *
+     * @return A future completed with the result of the reload
+     */
+    public CompletableFuture<ReloadResult> reload() {
+        if (placeholder) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Cannot reload a placeholder translator"));
+        }
+        return CompletableFuture.supplyAsync(this::reloadNow, loadExecutor);
+    }
+
+    private synchronized ReloadResult reloadNow() {
+        long start = System.nanoTime();
+        Translations updated;
+        try {
+            updated = resolveTranslations(languageCode, readEntries(languageCode));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ReloadResult result = new ReloadResult(languageCode, System.nanoTime() - start,
+                countChangedKeys(translations.entries, updated.entries));
+        loadNanos = result.getDuration().toNanos();
+
+        translations = updated;
+        for (Consumer<ReloadResult> listener : reloadListeners) {
+            try {
+                listener.accept(result);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        return result;
+    }
+
+    private static int countChangedKeys(Map<String, String> previous, Map<String, String> current) {
+        int changed = 0;
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changed++;
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Reloads the given languages and the languages falling back to them, or every loaded language if null.
+     */
+    private static void reloadChanged(Set<String> languageCodes) {
+        instances.invalidateFailures();
+        for (McMaterialTranslator translator : instances.loadedValues()) {
+            if (languageCodes == null || languageCodes.contains(translator.languageCode)
+                    || !Collections.disjoint(languageCodes, getFallbackChain(translator.languageCode))) {
+                translator.reload().exceptionally(McMaterialTranslator::reportReloadFailure);
+            }
+        }
+    }
+
+    private static ReloadResult reportReloadFailure(Throwable throwable) {
+        throwable.printStackTrace();
+        return null;
+    }
+
+    /**
+     * Gets the translation for a material in the current language.
+     *
+     * @param material The material to translate
+     * @return The translation in the current language, or the material name if no translation is found
+     */
+    public String translate(Material material) {
+        if (material == null) {
+            return "null";
+        }
+
+        String translation = translations.material(material);
+        if (metricsEnabled) {
+            getMetrics().record(TranslationDomain.MATERIAL, translation != null);
+        }
+        return translation != null ? translation : material.name();
+    }
+
+    /**
+     * Gets the translation for a material in the specified language.
+     *
+     * @param material The material to translate
+     * @param languageCode The language code to translate to
+     * @return The translation in the specified language, or the material name if no translation is found
+     */
+    public static String translate(Material material, String languageCode) {
+        return getInstance(languageCode).translate(material);
+    }
+
+    /**
+     * Translates several materials in the current language into a caller-supplied array.
+     * {@code results[i]} receives the translation of {@code materials[i]}, as returned by {@link #translate(Material)}.
+     *
+     * @param materials The materials to translate
+     * @param results The array to store the translations in, at least as long as {@code materials}
+     */
+    public void translateAll(Material[] materials, String[] results) {
+        checkCapacity(materials.length, results.length);
+        for (int i = 0; i < materials.length; i++) {
+            results[i] = translate(materials[i]);
+        }
+    }
+
+    /**
+     * Translates the materials of several items in the current language into a caller-supplied array.
+     * {@code results[i]} receives the translation of the type of {@code items[i]}, or null if the slot is empty.
+     *
+     * @param items The items to translate, e.g. the contents of an inventory
+     * @param results The array to store the translations in, at least as long as {@code items}
+     */
+    public void translateAll(ItemStack[] items, String[] results) {
+        checkCapacity(items.length, results.length);
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            results[i] = item != null ? translate(item.getType()) : null;
+        }
+    }
+
+    /**
+     * Translates several materials in the current language into a caller-supplied array, in iteration order.
+     *
+     * @param materials The materials to translate
+     * @param results The array to store the translations in, at least as long as the collection
+     */
+    public void translateAll(Collection<Material> materials, String[] results) {
+        checkCapacity(materials.size(), results.length);
+        int index = 0;
+        for (Material material : materials) {
+            results[index++] = translate(material);
+        }
+    }
+
+    /**
+     * Translates several materials into several languages in a single pass.
+     * {@code results[t][i]} receives the translation of {@code materials[i]} by {@code translators[t]}.
+     *
+     * @param materials The materials to translate
+     * @param translators The translators of the target languages
+     * @param results One array per translator to store the translations in, each at least as long as {@code materials}
+     */
+    public static void translateAll(Material[] materials, McMaterialTranslator[] translators, String[][] results) {
+        checkCapacity(translators.length, results.length);
+        for (String[] languageResults : results) {
+            checkCapacity(materials.length, languageResults.length);
+        }
+        for (int i = 0; i < materials.length; i++) {
+            Material material = materials[i];
+            for (int t = 0; t < translators.length; t++) {
+                results[t][i] = translators[t].translate(material);
+            }
+        }
+    }
+
+    /**
+     * Translates the materials of several items into several languages in a single pass.
+     * {@code results[t][i]} receives the translation of the type of {@code items[i]} by {@code translators[t]},
+     * or null if the slot is empty.
+     *
+     * @param items The items to translate, e.g. the contents of an inventory
+     * @param translators The translators of the target languages
+     * @param results One array per translator to store the translations in, each at least as long as {@code items}
+     */
+    public static void translateAll(ItemStack[] items, McMaterialTranslator[] translators, String[][] results) {
+        checkCapacity(translators.length, results.length);
+        for (String[] languageResults : results) {
+            checkCapacity(items.length, languageResults.length);
+        }
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            Material material = item != null ? item.getType() : null;
+            for (int t = 0; t < translators.length; t++) {
+                results[t][i] = material != null ? translators[t].translate(material) : null;
+            }
+        }
+    }
+
+    private static void checkCapacity(int required, int capacity) {
+        if (capacity < required) {
+            throw new IllegalArgumentException("Result array too short: " + capacity + " < " + required);
+        }
+    }
+
+    /**
+     * Gets the translation for an entity type in the current language.
+     *
+     * @param entityType The entity type to translate
+     * @return The translation in the current language, or the entity type name if no translation is found
+     */
+    public String translate(EntityType entityType) {
+        if (entityType == null) {
+            return "null";
+        }
+
+        String translation = translations.entityType(entityType);
+        if (metricsEnabled) {
+            getMetrics().record(TranslationDomain.ENTITY_TYPE, translation != null);
+        }
+        return translation != null ? translation : entityType.name();
+    }
+
+    /**
+     * Gets the translation for an entity type in the specified language.
+     *
+     * @param entityType The entity type to translate
+     * @param languageCode The language code to translate to
+     * @return The translation in the specified language, or the entity type name if no translation is found
+     */
+    public static String translate(EntityType entityType, String languageCode) {
+        return getInstance(languageCode).translate(entityType);
+    }
+
+    /**
+     * Gets the translation for a material, entity, effect or enchantment name in the current language.
+     * The name is matched case-insensitively, with or without the {@code minecraft:} namespace. Materials take
+     * precedence over entity types, which take precedence over effects and enchantments.
+     *
+     * @param name The name of the material, entity, effect or enchantment to translate
+     * @return The translation in the current language, or the original name if no translation is found
+     */
+    public String translate(String name) {
+        if (name == null) {
+            return "null";
+        }
+
+        Object target = NameIndex.get().lookup(name);
+        if (target instanceof Material material) {
+            return translate(material);
+        }
+        if (target instanceof EntityType entityType) {
+            return translate(entityType);
+        }
+        if (target instanceof PotionEffectType effectType) {
+            return translate(effectType);
+        }
+        if (target instanceof Enchantment enchantment) {
+            return translate(enchantment);
+        }
+        return name;
+    }
+
+    /**
+     * Gets the translation for a material, entity, effect or enchantment name in the specified language.
+     *
+     * @param name The name of the material, entity, effect or enchantment to translate
+     * @param languageCode The language code to translate to
+     * @return The translation in the specified language, or the original name if no translation is found
+     */
+    public static String translate(String name, String languageCode) {
+        return getInstance(languageCode).translate(name);
+    }
+
+    /**
+     * Checks if a translation exists for the given material in the current language.
+     *
+     * @param material The material to check
+     * @return true if a translation exists, false otherwise
+     */
+    public boolean hasTranslation(Material material) {
+        return material != null && translations.material(material) != null;
+    }
+
+    /**
+     * Checks if a translation exists for the given material in the specified language.
+     *
+     * @param material The material to check
+     * @param languageCode The language code to check
+     * @return true if a translation exists, false otherwise
+     */
+    public static boolean hasTranslation(Material material, String languageCode) {
+        return getInstance(languageCode).hasTranslation(material);
+    }
+
+    /**
+     * Checks if a translation exists for the given entity type in the current language.
+     *
+     * @param entityType The entity type to check
+     * @return true if a translation exists, false otherwise
+     */
+    public boolean hasTranslation(EntityType entityType) {
+        return entityType != null && translations.entityType(entityType) != null;
+    }
+
+    /**
+     * Checks if a translation exists for the given entity type in the specified language.
+     *
+     * @param entityType The entity type to check
+     * @param languageCode The language code to check
+     * @return true if a translation exists, false otherwise
+     */
+    public static boolean hasTranslation(EntityType entityType, String languageCode) {
+        return getInstance(languageCode).hasTranslation(entityType);
+    }
+
+    /**
+     * Gets the translation for a potion effect type in the current language.
+     *
+     * @param effectType The potion effect type to translate
+     * @return The translation in the current language, or the effect type name if no translation is found
+     */
+    public String translate(PotionEffectType effectType) {
+        if (effectType == null) {
+            return "null";
+        }
+
+        String translation = translations.effectType(effectType);
+        if (metricsEnabled) {
+            getMetrics().record(TranslationDomain.EFFECT_TYPE, translation != null);
+        }
+        return translation != null ? translation : effectType.getName();
+    }
+
+    /**
+     * Gets the translation for a potion effect type in the specified language.
+     *
+     * @param effectType The potion effect type to translate
+     * @param languageCode The language code to translate to
+     * @return The translation in the specified language, or the effect type name if no translation is found
+     */
+    public static String translate(PotionEffectType effectType, String languageCode) {
+        return getInstance(languageCode).translate(effectType);
+    }
+
+    /**
+     * Gets the translation for an enchantment in the current language.
+     *
+     * @param enchantment The enchantment to translate
+     * @return The translation in the current language, or the enchantment name if no translation is found
+     */
+    public String translate(Enchantment enchantment) {
+        if (enchantment == null) {
+            return "null";
+        }
+
+        String translation = translations.enchantment(enchantment);
+        if (metricsEnabled) {
+            getMetrics().record(TranslationDomain.ENCHANTMENT, translation != null);
+        }
+        return translation != null ? translation : enchantment.getKey().getKey();
+    }
+
+    /**
+     * Gets the translation for an enchantment in the specified language.
+     *
+     * @param enchantment The enchantment to translate
+     * @param languageCode The language code to translate to
+     * @return The translation in the specified language, or the enchantment name if no translation is found
+     */
+    public static String translate(Enchantment enchantment, String languageCode) {
+        return getInstance(languageCode).translate(enchantment);
+    }
+
+    /**
+     * Gets the name of an enchantment at a level in the current language, as shown in item tooltips, e.g.
+     * "Sharpness V". The level is written with the {@code enchantment.level.<level>} key of the language or of its
+     * fallback languages, or as a number if none of them has it. Enchantments with a single level are shown without level at level 1.
+     *
+     * <p>The names of levels 1 to 10 are cached per language, so repeated calls return the same string without
+     * allocating.</p>
+     *
+     * @param enchantment The enchantment to translate
+     * @param level The level of the enchantment
+     * @return The name of the enchantment with its level
+     */
+    public String translate(Enchantment enchantment, int level) {
+        if (enchantment == null) {
+            return "null";
+        }
+
+        Translations current = translations;
+        if (level < 1 || level > Translations.CACHED_LEVELS) {
+            return composeLevelName(current, enchantment, level);
+        }
+        String[] names = current.enchantmentLevelNames.computeIfAbsent(enchantment,
+                key -> new String[Translations.CACHED_LEVELS]);
+        String name = names[level - 1];
+        if (name == null) {
+            name = composeLevelName(current, enchantment, level);
+            names[level - 1] = name;
+        }
+        return name;
+    }
+
+    private static String composeLevelName(Translations current, Enchantment enchantment, int level) {
+        String name = current.enchantment(enchantment);
+        if (name == null) {
+            name = enchantment.getKey().getKey();
+        }
+        if (level == 1 && enchantment.getMaxLevel() == 1) {
+            return name;
+        }
+        String levelName = current.entries.get(TranslationKeys.ENCHANTMENT_LEVEL_PREFIX + level);
+        return name + ' ' + (levelName != null ? levelName : Integer.toString(level));
+    }
+
+    /**
+     * Gets the name of a potion effect type at an amplifier in the current language, as shown in item tooltips, e.g.
+     * "Strength II" for amplifier 1. The potency is written with the {@code potion.potency.<amplifier>} key of the
+     * language or of its fallback languages, or as a number if none of them has it. Amplifier 0 is shown without potency.
+     *
+     * <p>The names of amplifiers 0 to 9 are cached per language, so repeated calls return the same string without
+     * allocating.</p>
+     *
+     * @param effectType The potion effect type to translate
+     * @param amplifier The amplifier of the effect, where 0 is the first level
+     * @return The name of the effect with its potency
+     */
+    public String translate(PotionEffectType effectType, int amplifier) {
+        if (effectType == null) {
+            return "null";
+        }
+
+        Translations current = translations;
+        if (amplifier < 0 || amplifier >= Translations.CACHED_LEVELS) {
+            return composePotencyName(current, effectType, amplifier);
+        }
+        String[] names = current.effectPotencyNames.computeIfAbsent(effectType,
+                key -> new String[Translations.CACHED_LEVELS]);
+        String name = names[amplifier];
+        if (name == null) {
+            name = composePotencyName(current, effectType, amplifier);
+            names[amplifier] = name;
+        }
+        return name;
+    }
+
+    private static String composePotencyName(Translations current, PotionEffectType effectType, int amplifier) {
+        String name = current.effectType(effectType);
+        if (name == null) {
+            name = effectType.getName();
+        }
+        String potency = current.entries.get(TranslationKeys.POTION_POTENCY_PREFIX + amplifier);
+        if (potency == null) {
+            potency = amplifier == 0 ? "" : Integer.toString(amplifier + 1);
+        }
+        return potency.isEmpty() ? name : name + ' ' + potency;
+    }
+
+    /**
+     * Gets the name of a potion effect with its potency and remaining duration in the current language, as shown
+     * in item tooltips, e.g. "Strength II (1:30)". Infinite effects are shown with the
+     * {@code effect.duration.infinite} key of the language or of its fallback languages.
+     *
+     * @param effect The potion effect to translate
+     * @return The name of the effect with its potency and duration
+     * @see #translate(PotionEffectType, int)
+     */
+    public String translate(PotionEffect effect) {
+        if (effect == null) {
+            return "null";
+        }
+
+        StringBuilder builder = new StringBuilder(translate(effect.getType(), effect.getAmplifier())).append(" (");
+        if (effect.isInfinite()) {
+            String infinite = translations.entries.get(TranslationKeys.EFFECT_DURATION_INFINITE);
+            builder.append(infinite != null ? infinite : "\u221E");
+        } else {
+            int seconds = effect.getDuration() / 20;
+            if (seconds >= 3600) {
+                builder.append(seconds / 3600).append(':');
+                appendTwoDigits(builder, seconds / 60 % 60);
+            } else {
+                builder.append(seconds / 60);
+            }
+            builder.append(':');
+            appendTwoDigits(builder, seconds % 60);
+        }
+        return builder.append(')').toString();
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        if (value < 10) {
+            builder.append('0');
+        }
+        builder.append(value);
+    }
+
+    /**
+     * Checks if a translation exists for the given potion effect type in the current language.
+     *
+     * @param effectType The potion effect type to check
+     * @return true if a translation exists, false otherwise
+     */
+    public boolean hasTranslation(PotionEffectType effectType) {
+        return effectType != null && translations.effectType(effectType) != null;
+    }
+
+    /**
+     * Checks if a translation exists for the given potion effect type in the specified language.
+     *
+     * @param effectType The potion effect type to check
+     * @param languageCode The language code to check
+     * @return true if a translation exists, false otherwise
+     */
+    public static boolean hasTranslation(PotionEffectType effectType, String languageCode) {
+        return getInstance(languageCode).hasTranslation(effectType);
+    }
+
+    /**
+     * Checks if a translation exists for the given enchantment in the current language.
+     *
+     * @param enchantment The enchantment to check
+     * @return true if a translation exists, false otherwise
+     */
+    public boolean hasTranslation(Enchantment enchantment) {
+        return enchantment != null && translations.enchantment(enchantment) != null;
+    }
+
+    /**
+     * Checks if a translation exists for the given enchantment in the specified language.
+     *
+     * @param enchantment The enchantment to check
+     * @param languageCode The language code to check
+     * @return true if a translation exists, false otherwise
+     */
+    public static boolean hasTranslation(Enchantment enchantment, String languageCode) {
+        return getInstance(languageCode).hasTranslation(enchantment);
+    }
+
+    /**
+     * Gets the translation for an object of a custom domain in the current language.
+     *
+     * @param domain The domain of the object
+     * @param value The object to translate
+     * @param <T> The type of the translated objects
+     * @return The translation in the current language, or the string form of the object if no translation is found
+     */
+    public <T> String translate(CustomDomain<T> domain, T value) {
+        if (value == null) {
+            return "null";
+        }
+
+        String translation = translations.customTable(domain).get(value);
+        return translation != null ? translation : value.toString();
+    }
+
+    /**
+     * Checks if a translation exists for an object of a custom domain in the current language.
+     *
+     * @param domain The domain of the object
+     * @param value The object to check
+     * @param <T> The type of the translated objects
+     * @return true if a translation exists, false otherwise
+     */
+    public <T> boolean hasTranslation(CustomDomain<T> domain, T value) {
+        return value != null && translations.customTable(domain).containsKey(value);
+    }
+
+    /**
+     * Finds the material whose translation in the current language matches a name, such as the Japanese name of
+     * {@link Material#DIAMOND} in a Japanese translator. Hiragana and katakana, full-width and half-width forms, and
+     * upper and lower case match each other, and spaces and middle dots are ignored.
+     *
+     * <p>The reverse index of each language is built the first time it is searched.</p>
+     *
+     * @param name The translated name
+     * @return The material, or null if no translation matches
+     */
+    public Material findMaterial(String name) {
+        return name != null ? translations.materialIndex().find(name) : null;
+    }
+
+    /**
+     * Finds the entity type whose translation in the current language matches a name.
+     * Names are matched as described in {@link #findMaterial(String)}.
+     *
+     * @param name The translated name
+     * @return The entity type, or null if no translation matches
+     */
+    public EntityType findEntityType(String name) {
+        return name != null ? translations.entityIndex().find(name) : null;
+    }
+
+    /**
+     * Finds the potion effect type whose translation in the current language matches a name.
+     * Names are matched as described in {@link #findMaterial(String)}.
+     *
+     * @param name The translated name
+     * @return The potion effect type, or null if no translation matches
+     */
+    public PotionEffectType findEffectType(String name) {
+        return name != null ? translations.effectIndex().find(name) : null;
+    }
+
+    /**
+     * Finds the enchantment whose translation in the current language matches a name.
+     * Names are matched as described in {@link #findMaterial(String)}.
+     *
+     * @param name The translated name
+     * @return The enchantment, or null if no translation matches
+     */
+    public Enchantment findEnchantment(String name) {
+        return name != null ? translations.enchantmentIndex().find(name) : null;
+    }
+
+    /**
+     * Searches the materials whose translation in the current language contains a query.
+     * Translations starting with the query come first, followed by translations containing it elsewhere.
+     * Names are matched as described in {@link #findMaterial(String)}.
+     *
+     * @param query The text to search for
+     * @param limit The maximum number of results
+     * @return The matching materials
+     */
+    public List<Material> searchMaterials(String query, int limit) {
+        return query != null ? translations.materialIndex().search(query, limit) : List.of();
+    }
+
+    /**
+     * Searches the entity types whose translation in the current language contains a query.
+     * Results are ordered as described in {@link #searchMaterials(String, int)}.
+     *
+     * @param query The text to search for
+     * @param limit The maximum number of results
+     * @return The matching entity types
+     */
+    public List<EntityType> searchEntityTypes(String query, int limit) {
+        return query != null ? translations.entityIndex().search(query, limit) : List.of();
+    }
+
+    /**
+     * Searches the potion effect types whose translation in the current language contains a query.
+     * Results are ordered as described in {@link #searchMaterials(String, int)}.
+     *
+     * @param query The text to search for
+     * @param limit The maximum number of results
+     * @return The matching potion effect types
+     */
+    public List<PotionEffectType> searchEffectTypes(String query, int limit) {
+        return query != null ? translations.effectIndex().search(query, limit) : List.of();
+    }
+
+    /**
+     * Searches the enchantments whose translation in the current language contains a query.
+     * Results are ordered as described in {@link #searchMaterials(String, int)}.
+     *
+     * @param query The text to search for
+     * @param limit The maximum number of results
+     * @return The matching enchantments
+     */
+    public List<Enchantment> searchEnchantments(String query, int limit) {
+        return query != null ? translations.enchantmentIndex().search(query, limit) : List.of();
+    }
+
+    /**
+     * Completes a material name that is being typed, e.g. in a tab completer.
+     * Materials are completed by their translation in the current language and by their lower-case name, such as
+     * "diamond_sword". Names are matched as described in {@link #findMaterial(String)} and written to the array in
+     * alphabetical order of their folded form.
+     *
+     * <p>Completion does not allocate once the completion index of the language has been built on first use, so it
+     * can run on every keystroke. Pass the same array each time and copy the results out if needed, e.g. with
+     * {@code Arrays.asList(results).subList(0, count)}.</p>
+     *
+     * @param prefix The text typed so far
+     * @param results The array to write the completions to; its length is the maximum number of completions
+     * @return The number of completions written to the array
+     */
+    public int completeMaterials(CharSequence prefix, String[] results) {
+        return translations.materialCompletions().complete(prefix, results);
+    }
+
+    /**
+     * Completes an entity type name that is being typed.
+     * Entity types are completed by their translation in the current language and by their lower-case name, as
+     * described in {@link #completeMaterials(CharSequence, String[])}.
+     *
+     * @param prefix The text typed so far
+     * @param results The array to write the completions to; its length is the maximum number of completions
+     * @return The number of completions written to the array
+     */
+    public int completeEntityTypes(CharSequence prefix, String[] results) {
+        return translations.entityCompletions().complete(prefix, results);
+    }
+
+    /**
+     * Completes a potion effect type name that is being typed.
+     * Potion effect types are completed by their translation in the current language and by their key, such as
+     * "night_vision", as described in {@link #completeMaterials(CharSequence, String[])}.
+     *
+     * @param prefix The text typed so far
+     * @param results The array to write the completions to; its length is the maximum number of completions
+     * @return The number of completions written to the array
+     */
+    public int completeEffectTypes(CharSequence prefix, String[] results) {
+        return translations.effectCompletions().complete(prefix, results);
+    }
+
+    /**
+     * Completes an enchantment name that is being typed.
+     * Enchantments are completed by their translation in the current language and by their key, such as
+     * "sharpness", as described in {@link #completeMaterials(CharSequence, String[])}.
+     *
+     * @param prefix The text typed so far
+     * @param results The array to write the completions to; its length is the maximum number of completions
+     * @return The number of completions written to the array
+     */
+    public int completeEnchantments(CharSequence prefix, String[] results) {
+        return translations.enchantmentCompletions().complete(prefix, results);
+    }
+
+    /**
+     * Appends the translation for a material in the current language to a builder.
+     * This appends the same text as {@link #translate(Material)} without creating any intermediate strings.
+     *
+     * @param builder The builder to append to
+     * @param material The material to translate
+     * @return The builder
+     */
+    public StringBuilder appendTo(StringBuilder builder, Material material) {
+        return builder.append(translate(material));
+    }
+
+    /**
+     * Appends the translation for a material in the current language to an appendable, such as a writer.
+     * This appends the same text as {@link #translate(Material)} without creating any intermediate strings.
+     *
+     * @param appendable The appendable to append to
+     * @param material The material to translate
+     * @param <A> The type of the appendable
+     * @return The appendable
+     * @throws IOException If the appendable throws it
+     */
+    public <A extends Appendable> A appendTo(A appendable, Material material) throws IOException {
+        appendable.append(translate(material));
+        return appendable;
+    }
+
+    /**
+     * Appends the translation for an entity type in the current language to a builder.
+     * This appends the same text as {@link #translate(EntityType)} without creating any intermediate strings.
+     *
+     * @param builder The builder to append to
+     * @param entityType The entity type to translate
+     * @return The builder
+     */
+    public StringBuilder appendTo(StringBuilder builder, EntityType entityType) {
+        return builder.append(translate(entityType));
+    }
+
+    /**
+     * Appends the translation for an entity type in the current language to an appendable, such as a writer.
+     * This appends the same text as {@link #translate(EntityType)} without creating any intermediate strings.
+     *
+     * @param appendable The appendable to append to
+     * @param entityType The entity type to translate
+     * @param <A> The type of the appendable
+     * @return The appendable
+     * @throws IOException If the appendable throws it
+     */
+    public <A extends Appendable> A appendTo(A appendable, EntityType entityType) throws IOException {
+        appendable.append(translate(entityType));
+        return appendable;
+    }
+
+    /**
+     * Appends the translation for a potion effect type in the current language to a builder.
+     * This appends the same text as {@link #translate(PotionEffectType)} without creating any intermediate strings.
+     *
+     * @param builder The builder to append to
+     * @param effectType The potion effect type to translate
+     * @return The builder
+     */
+    public StringBuilder appendTo(StringBuilder builder, PotionEffectType effectType) {
+        return builder.append(translate(effectType));
+    }
+
+    /**
+     * Appends the translation for a potion effect type in the current language to an appendable, such as a writer.
+     * This appends the same text as {@link #translate(PotionEffectType)} without creating any intermediate strings.
+     *
+     * @param appendable The appendable to append to
+     * @param effectType The potion effect type to translate
+     * @param <A> The type of the appendable
+     * @return The appendable
+     * @throws IOException If the appendable throws it
+     */
+    public <A extends Appendable> A appendTo(A appendable, PotionEffectType effectType) throws IOException {
+        appendable.append(translate(effectType));
+        return appendable;
+    }
+
+    /**
+     * Appends the translation for an enchantment in the current language to a builder.
+     * This appends the same text as {@link #translate(Enchantment)} without creating any intermediate strings.
+     *
+     * @param builder The builder to append to
+     * @param enchantment The enchantment to translate
+     * @return The builder
+     */
+    public StringBuilder appendTo(StringBuilder builder, Enchantment enchantment) {
+        return builder.append(translate(enchantment));
+    }
+
+    /**
+     * Appends the translation for an enchantment in the current language to an appendable, such as a writer.
+     * This appends the same text as {@link #translate(Enchantment)} without creating any intermediate strings.
+     *
+     * @param appendable The appendable to append to
+     * @param enchantment The enchantment to translate
+     * @param <A> The type of the appendable
+     * @return The appendable
+     * @throws IOException If the appendable throws it
+     */
+    public <A extends Appendable> A appendTo(A appendable, Enchantment enchantment) throws IOException {
+        appendable.append(translate(enchantment));
+        return appendable;
+    }
+
+    /**
+     * Gets all available material translations in the current language.
+     *
+     * The returned map is an unmodifiable view that is shared between callers, so no copy is made.
+     * It does not change when the language is reloaded; call this method again to see the new translations.
+     *
+     * @return A map of materials to their translations in the current language
+     */
+    public Map<Material, String> getAllTranslations() {
+        return translations.materialTable().asMap();
+    }
+
+    /**
+     * Gets all available material translations in the specified language.
+     *
+     * @param languageCode The language code to get translations for
+     * @return A map of materials to their translations in the specified language
+     */
+    public static Map<Material, String> getAllTranslations(String languageCode) {
+        return getInstance(languageCode).getAllTranslations();
+    }
+
+    /**
+     * Gets all translations of a custom domain for the current language.
+     * The returned map is an unmodifiable view shared by all callers; it does not change when the language is
+     * reloaded.
+     *
+     * @param domain The custom domain
+     * @param <T> The type of the translated objects
+     * @return A map of the domain's objects to their translations
+     */
+    public <T> Map<T, String> getAllTranslations(CustomDomain<T> domain) {
+        return translations.customTable(domain);
+    }
+
+    /**
+     * Gets all available entity translations in the current language.
+     *
+     * The returned map is an unmodifiable view that is shared between callers, so no copy is made.
+     * It does not change when the language is reloaded; call this method again to see the new translations.
+     *
+     * @return A map of entity types to their translations in the current language
+     */
+    public Map<EntityType, String> getAllEntityTranslations() {
+        return translations.entityTable().asMap();
+    }
+
+    /**
+     * Gets all available entity translations in the specified language.
+     *
+     * @param languageCode The language code to get translations for
+     * @return A map of entity types to their translations in the specified language
+     */
+    public static Map<EntityType, String> getAllEntityTranslations(String languageCode) {
+        return getInstance(languageCode).getAllEntityTranslations();
+    }
+
+    /**
+     * Gets all available effect translations in the current language.
+     *
+     * The returned map is unmodifiable and shared between callers, so no copy is made.
+     * It does not change when the language is reloaded; call this method again to see the new translations.
+     *
+     * @return A map of potion effect types to their translations in the current language
+     */
+    public Map<PotionEffectType, String> getAllEffectTranslations() {
+        return translations.effectTranslationMap();
+    }
+
+    /**
+     * Gets all available effect translations in the specified language.
+     *
+     * @param languageCode The language code to get translations for
+     * @return A map of potion effect types to their translations in the specified language
+     */
+    public static Map<PotionEffectType, String> getAllEffectTranslations(String languageCode) {
+        return getInstance(languageCode).getAllEffectTranslations();
+    }
+
+    /**
+     * Gets all available enchantment translations in the current language.
+     *
+     * The returned map is unmodifiable and shared between callers, so no copy is made.
+     * It does not change when the language is reloaded; call this method again to see the new translations.
+     *
+     * @return A map of enchantments to their translations in the current language
+     */
+    public Map<Enchantment, String> getAllEnchantmentTranslations() {
+        return translations.enchantmentTranslationMap();
+    }
+
+    /**
+     * Gets all available enchantment translations in the specified language.
+     *
+     * @param languageCode The language code to get translations for
+     * @return A map of enchantments to their translations in the specified language
+     */
+    public static Map<Enchantment, String> getAllEnchantmentTranslations(String languageCode) {
+        return getInstance(languageCode).getAllEnchantmentTranslations();
+    }
+
+    /**
+     * Gets the translated materials sorted by their translation in the collation order of the current language,
+     * e.g. for a catalogue GUI. The view is built once per language and kept until the language is reloaded, so
+     * showing a page of it does not sort or copy anything:
+     *
+     * <pre>{@code
+     * SortedView<Material> catalogue = translator.getSortedMaterials();
+     * for (Material material : catalogue.page(page, 45)) {
+     *     inventory.addItem(new ItemStack(material));
+     * }
+     * }</pre>
+     *
+     * <p>Like {@link #getAllTranslations()}, the view only contains materials with a translation. It does not change
+     * when the language is reloaded; call this method again to see the new translations.</p>
+     *
+     * @return The sorted view of the materials
+     */
+    public SortedView<Material> getSortedMaterials() {
+        return translations.sortedMaterials(SortedView.toLocale(languageCode));
+    }
+
+    /**
+     * Gets the translated entity types sorted by their translation in the collation order of the current language.
+     * The view is kept as described in {@link #getSortedMaterials()}.
+     *
+     * @return The sorted view of the entity types
+     */
+    public SortedView<EntityType> getSortedEntityTypes() {
+        return translations.sortedEntityTypes(SortedView.toLocale(languageCode));
+    }
+
+    /**
+     * Gets the translated potion effect types sorted by their translation in the collation order of the current
+     * language. The view is kept as described in {@link #getSortedMaterials()}.
+     *
+     * @return The sorted view of the potion effect types
+     */
+    public SortedView<PotionEffectType> getSortedEffectTypes() {
+        return translations.sortedEffectTypes(SortedView.toLocale(languageCode));
+    }
+
+    /**
+     * Gets the translated enchantments sorted by their translation in the collation order of the current language.
+     * The view is kept as described in {@link #getSortedMaterials()}.
+     *
+     * @return The sorted view of the enchantments
+     */
+    public SortedView<Enchantment> getSortedEnchantments() {
+        return translations.sortedEnchantments(SortedView.toLocale(languageCode));
+    }
+}
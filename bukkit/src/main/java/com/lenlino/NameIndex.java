@@ -0,0 +1,130 @@
+package com.lenlino;
+
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.Locale;
+
+/**
+ * A case-insensitive index from names to materials, entity types, potion effect types and enchantments.
+ * Names are accepted with or without the {@code minecraft:} namespace. A lookup hashes the characters of the
+ * name in place and never allocates or throws.
+ *
+ * <p>The index is built once per JVM on first use. Potion effect types and enchantments are only available once
+ * the server has registered them, so it must not be used before the server has started.</p>
+ */
+final class NameIndex {
+    private static final String NAMESPACE = NamespacedKey.MINECRAFT + ":";
+
+    private final String[] names;
+    private final Object[] targets;
+    private final int mask;
+
+    private NameIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        this.names = new String[capacity];
+        this.targets = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gets the index, building it on first use.
+     *
+     * @return The shared index
+     */
+    static NameIndex get() {
+        return Holder.INDEX;
+    }
+
+    /**
+     * Finds the constant with the given name.
+     * Materials take precedence over entity types, which take precedence over effects and enchantments.
+     *
+     * @param name The name, e.g. "DIAMOND", "diamond" or "minecraft:diamond"
+     * @return The {@link Material}, {@link EntityType}, {@link PotionEffectType} or {@link Enchantment}, or null
+     */
+    Object lookup(String name) {
+        int offset = name.regionMatches(true, 0, NAMESPACE, 0, NAMESPACE.length()) ? NAMESPACE.length() : 0;
+        int length = name.length() - offset;
+        for (int slot = hash(name, offset) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+            String candidate = names[slot];
+            if (candidate.length() == length && candidate.regionMatches(true, 0, name, offset, length)) {
+                return targets[slot];
+            }
+        }
+        return null;
+    }
+
+    private void add(String name, Object target) {
+        if (name == null) {
+            return;
+        }
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        int slot = hash(lowerName, 0) & mask;
+        while (names[slot] != null) {
+            if (names[slot].equals(lowerName)) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        names[slot] = lowerName;
+        targets[slot] = target;
+    }
+
+    private void addKey(Keyed keyed) {
+        try {
+            NamespacedKey key = keyed.getKey();
+            if (key != null && NamespacedKey.MINECRAFT.equals(key.getNamespace())) {
+                add(key.getKey(), keyed);
+            }
+        } catch (IllegalArgumentException e) {
+            // Legacy materials and unknown entity types have no key
+        }
+    }
+
+    private static int hash(String name, int offset) {
+        int hash = 0;
+        for (int i = offset; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            hash = 31 * hash + c;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static NameIndex build() {
+        Material[] materials = Material.values();
+        EntityType[] entityTypes = EntityType.values();
+        PotionEffectType[] effectTypes = PotionEffectType.values();
+        Enchantment[] enchantments = Enchantment.values();
+
+        NameIndex index = new NameIndex(materials.length + 2 * (entityTypes.length + effectTypes.length + enchantments.length));
+        for (Material material : materials) {
+            index.add(material.name(), material);
+        }
+        for (EntityType entityType : entityTypes) {
+            index.add(entityType.name(), entityType);
+            index.addKey(entityType);
+        }
+        for (PotionEffectType effectType : effectTypes) {
+            if (effectType == null) continue; // Skip null entries in the array
+            index.add(effectType.getName(), effectType);
+            index.addKey(effectType);
+        }
+        for (Enchantment enchantment : enchantments) {
+            index.addKey(enchantment);
+            index.add(enchantment.getName(), enchantment);
+        }
+        return index;
+    }
+
+    private static final class Holder {
+        static final NameIndex INDEX = build();
+    }
+}
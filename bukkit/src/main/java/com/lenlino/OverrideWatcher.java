@@ -0,0 +1,95 @@
+package com.lenlino;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches the language override directory and reports which languages changed.
+ * Events are collected for a short time before they are reported, so an editor saving a file in several steps
+ * triggers a single reload.
+ */
+final class OverrideWatcher implements Runnable {
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final WatchService watchService;
+    private final Consumer<Set<String>> listener;
+
+    private OverrideWatcher(WatchService watchService, Consumer<Set<String>> listener) {
+        this.watchService = watchService;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching a directory on a daemon thread.
+     *
+     * @param directory The directory holding the override files
+     * @param listener Receives the codes of the changed languages, or null if events were lost and every language
+     *                 must be reloaded
+     * @return The running watcher
+     * @throws IOException If the directory cannot be watched
+     */
+    static OverrideWatcher start(Path directory, Consumer<Set<String>> listener) throws IOException {
+        WatchService watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        OverrideWatcher watcher = new OverrideWatcher(watchService, listener);
+        Thread thread = new Thread(watcher, "McMaterialTranslator override watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    /**
+     * Stops watching the directory.
+     */
+    void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MILLIS);
+
+                Set<String> languageCodes = new HashSet<>();
+                boolean overflow = false;
+                for (; key != null; key = watchService.poll()) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                        } else {
+                            String fileName = event.context().toString();
+                            if (fileName.endsWith(".json")) {
+                                languageCodes.add(fileName.substring(0, fileName.length() - ".json".length()));
+                            }
+                        }
+                    }
+                    key.reset();
+                }
+
+                if (overflow) {
+                    listener.accept(null);
+                } else if (!languageCodes.isEmpty()) {
+                    listener.accept(languageCodes);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped by close()
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.lenlino;
+
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Translates names into the language of each player.
+ * The translator of every online player is resolved when they join or change their client language and kept in a
+ * {@link Handle}, so translating a message does not look up the language again.
+ *
+ * <p>Languages are loaded in the background. Until the language of a player is loaded, and for good if it is not
+ * available, the fallback language is used instead; raw names are only returned while the fallback language itself
+ * is loading. No translator is created for a client locale that cannot be loaded.</p>
+ *
+ * <p>Players are also grouped by their translator as they join, quit and change their language, and when their
+ * language finishes loading, so a message can be broadcast by formatting it once per translator with
+ * {@link #broadcast(Function)}.</p>
+ */
+public final class PlayerTranslator implements Listener {
+    private static final String DEFAULT_FALLBACK_LANGUAGE = "en_us";
+
+    private final Map<UUID, Handle> handles = new ConcurrentHashMap<>();
+    /**
+     * The online players of each translator. A player is moved between groups whenever the translator of their
+     * handle changes, under the lock of this player translator.
+     */
+    private final Map<McMaterialTranslator, Set<Player>> translatorGroups = new ConcurrentHashMap<>();
+    private final String fallbackLanguage;
+
+    private PlayerTranslator(String fallbackLanguage) {
+        this.fallbackLanguage = fallbackLanguage;
+    }
+
+    /**
+     * Creates a player translator that falls back to English and registers its listeners.
+     *
+     * @param plugin The plugin to register the listeners for
+     * @return The player translator
+     */
+    public static PlayerTranslator register(Plugin plugin) {
+        return register(plugin, DEFAULT_FALLBACK_LANGUAGE);
+    }
+
+    /**
+     * Creates a player translator and registers its listeners.
+     * Players who are already online are tracked right away.
+     *
+     * @param plugin The plugin to register the listeners for
+     * @param fallbackLanguage The language used for players whose language is not available
+     * @return The player translator
+     */
+    public static PlayerTranslator register(Plugin plugin, String fallbackLanguage) {
+        PlayerTranslator playerTranslator = new PlayerTranslator(normalizeLanguageCode(fallbackLanguage));
+        McMaterialTranslator.getInstanceAsync(playerTranslator.fallbackLanguage);
+        plugin.getServer().getPluginManager().registerEvents(playerTranslator, plugin);
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            playerTranslator.track(player);
+        }
+        return playerTranslator;
+    }
+
+    /**
+     * Unregisters the listeners and forgets all players.
+     */
+    public void unregister() {
+        HandlerList.unregisterAll(this);
+        synchronized (this) {
+            handles.clear();
+            translatorGroups.clear();
+        }
+    }
+
+    /**
+     * Gets the language used for players whose language is not available.
+     *
+     * @return The fallback language code
+     */
+    public String getFallbackLanguage() {
+        return fallbackLanguage;
+    }
+
+    /**
+     * Gets the handle holding the translator of a player.
+     * The handle is updated in place when the player changes their language, so it can be kept for as long as the
+     * player is online.
+     *
+     * @param player The player
+     * @return The handle of the player, or null if the player is not online
+     */
+    public Handle getHandle(Player player) {
+        return handles.get(player.getUniqueId());
+    }
+
+    /**
+     * Gets the translator for the language of a player.
+     * Players who are not online get the translator of the fallback language.
+     *
+     * @param player The player
+     * @return The translator of the player
+     */
+    public McMaterialTranslator getTranslator(Player player) {
+        Handle handle = handles.get(player.getUniqueId());
+        return handle != null ? handle.translator : McMaterialTranslator.getInstanceOrPlaceholder(fallbackLanguage);
+    }
+
+    /**
+     * Gets the translation for a material in the language of a player.
+     *
+     * @param player The player whose language to use
+     * @param material The material to translate
+     * @return The translation, or the material name if no translation is found
+     */
+    public String translate(Player player, Material material) {
+        return getTranslator(player).translate(material);
+    }
+
+    /**
+     * Gets the translation for an entity type in the language of a player.
+     *
+     * @param player The player whose language to use
+     * @param entityType The entity type to translate
+     * @return The translation, or the entity type name if no translation is found
+     */
+    public String translate(Player player, EntityType entityType) {
+        return getTranslator(player).translate(entityType);
+    }
+
+    /**
+     * Gets the translation for a potion effect type in the language of a player.
+     *
+     * @param player The player whose language to use
+     * @param effectType The potion effect type to translate
+     * @return The translation, or the effect type name if no translation is found
+     */
+    public String translate(Player player, PotionEffectType effectType) {
+        return getTranslator(player).translate(effectType);
+    }
+
+    /**
+     * Gets the translation for an enchantment in the language of a player.
+     *
+     * @param player The player whose language to use
+     * @param enchantment The enchantment to translate
+     * @return The translation, or the enchantment name if no translation is found
+     */
+    public String translate(Player player, Enchantment enchantment) {
+        return getTranslator(player).translate(enchantment);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        track(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLocaleChange(PlayerLocaleChangeEvent event) {
+        Handle handle = handles.get(event.getPlayer().getUniqueId());
+        if (handle == null) {
+            track(event.getPlayer());
+        } else {
+            resolve(event.getPlayer(), handle, event.getLocale());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public synchronized void onPlayerQuit(PlayerQuitEvent event) {
+        Handle handle = handles.remove(event.getPlayer().getUniqueId());
+        if (handle != null) {
+            leaveGroup(handle.translator, event.getPlayer());
+        }
+    }
+
+    /**
+     * Sends a message to every online player in their language.
+     * The players are kept grouped by translator, so the message is formatted once per group and the cost of a
+     * broadcast, apart from sending the messages, grows with the number of languages online rather than with the
+     * number of players. Players whose language falls back to the same translator share one message:
+     *
+     * <pre>{@code
+     * playerTranslator.broadcast(translator -> finder.getName() + " found " + translator.translate(Material.DIAMOND_SWORD));
+     * }</pre>
+     *
+     * @param message Formats the message with the translator of a language; returning null sends nothing to the
+     *                players of that language
+     */
+    public void broadcast(Function<McMaterialTranslator, String> message) {
+        send(translatorGroups, message);
+    }
+
+    /**
+     * Sends a message to some players in their language, formatting it once per translator.
+     * Players who are not online get the message in the fallback language.
+     *
+     * @param recipients The players to send the message to
+     * @param message Formats the message with the translator of a language; returning null sends nothing to the
+     *                players of that language
+     */
+    public void broadcast(Collection<? extends Player> recipients, Function<McMaterialTranslator, String> message) {
+        Map<McMaterialTranslator, List<Player>> groups = new IdentityHashMap<>();
+        for (Player recipient : recipients) {
+            groups.computeIfAbsent(getTranslator(recipient), translator -> new ArrayList<>()).add(recipient);
+        }
+        send(groups, message);
+    }
+
+    /**
+     * Gets the number of online players of each language, as requested by their clients.
+     *
+     * @return A map of language codes to the number of players
+     */
+    public Map<String, Integer> getLanguageCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Handle handle : handles.values()) {
+            String languageCode = handle.languageCode;
+            if (languageCode != null) {
+                counts.merge(languageCode, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Formats a message once with each translator and sends it to the players using that translator.
+     */
+    private static void send(Map<McMaterialTranslator, ? extends Collection<Player>> groups,
+                             Function<McMaterialTranslator, String> message) {
+        for (Map.Entry<McMaterialTranslator, ? extends Collection<Player>> group : groups.entrySet()) {
+            String text = message.apply(group.getKey());
+            if (text == null) {
+                continue;
+            }
+            for (Player member : group.getValue()) {
+                member.sendMessage(text);
+            }
+        }
+    }
+
+    /**
+     * Creates the handle of an online player and resolves their language, unless the player is already tracked.
+     * Handles are only created here, for players who joined or were online on registration, so translating for an
+     * offline player never adds an entry that no quit event would remove.
+     */
+    private void track(Player player) {
+        Handle created = new Handle();
+        if (handles.putIfAbsent(player.getUniqueId(), created) == null) {
+            resolve(player, created, player.getLocale());
+        }
+    }
+
+    /**
+     * Points the handle of a player at a translator and moves the player to its group, unless the player has quit
+     * in the meantime.
+     */
+    private synchronized void assign(Player player, Handle handle, McMaterialTranslator translator) {
+        if (handles.get(player.getUniqueId()) != handle || handle.translator == translator) {
+            return;
+        }
+        leaveGroup(handle.translator, player);
+        handle.translator = translator;
+        translatorGroups.computeIfAbsent(translator, key -> ConcurrentHashMap.newKeySet()).add(player);
+    }
+
+    private void leaveGroup(McMaterialTranslator translator, Player player) {
+        if (translator != null) {
+            translatorGroups.computeIfPresent(translator, (key, members) -> {
+                members.remove(player);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+
+    /**
+     * Sets the client locale of a player and points their handle at its translator once it is loaded, falling back
+     * to the fallback language if the locale's language cannot be loaded. The handle keeps its current translator, or
+     * starts with the fallback language, while the language is loading.
+     */
+    private void resolve(Player player, Handle handle, String locale) {
+        String languageCode = normalizeLanguageCode(locale);
+        if (languageCode.equals(handle.languageCode)) {
+            return;
+        }
+        handle.languageCode = languageCode;
+        if (handle.translator == null) {
+            assign(player, handle, McMaterialTranslator.getInstanceOrPlaceholder(fallbackLanguage));
+        }
+
+        McMaterialTranslator.getInstanceAsync(languageCode)
+                .exceptionallyCompose(e -> McMaterialTranslator.getInstanceAsync(fallbackLanguage))
+                .thenAccept(translator -> {
+                    if (languageCode.equals(handle.languageCode)) {
+                        assign(player, handle, translator);
+                    }
+                });
+    }
+
+    /**
+     * Converts a client locale such as "en-US" or "ja_JP" to a language code such as "en_us" or "ja_jp".
+     *
+     * @param locale The client locale
+     * @return The language code
+     */
+    static String normalizeLanguageCode(String locale) {
+        Objects.requireNonNull(locale, "locale");
+        return locale.toLowerCase(Locale.ROOT).replace('-', '_');
+    }
+
+    /**
+     * Holds the translator of one player. It is updated when the player changes their language.
+     */
+    public static final class Handle {
+        private volatile McMaterialTranslator translator;
+        private volatile String languageCode;
+
+        private Handle() {
+        }
+
+        /**
+         * Gets the current translator of the player.
+         * This is the translator of the fallback language while the language of the player is loading or if it is
+         * not available, or a placeholder translator while the fallback language itself is loading.
+         *
+         * @return The translator
+         */
+        public McMaterialTranslator getTranslator() {
+            return translator;
+        }
+
+        /**
+         * Gets the language code requested by the client of the player.
+         * This can differ from the language of {@link #getTranslator()} if the language is not available.
+         *
+         * @return The language code of the player
+         */
+        public String getLanguageCode() {
+            return languageCode;
+        }
+    }
+}
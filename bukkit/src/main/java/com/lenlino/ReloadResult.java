@@ -0,0 +1,50 @@
+package com.lenlino;
+
+import java.time.Duration;
+
+/**
+ * The outcome of reloading the translations of a language.
+ */
+public final class ReloadResult {
+    private final String languageCode;
+    private final long durationNanos;
+    private final int changedKeys;
+
+    ReloadResult(String languageCode, long durationNanos, int changedKeys) {
+        this.languageCode = languageCode;
+        this.durationNanos = durationNanos;
+        this.changedKeys = changedKeys;
+    }
+
+    /**
+     * Gets the language code of the reloaded language.
+     *
+     * @return The language code
+     */
+    public String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Gets the time it took to read and resolve the translations.
+     *
+     * @return The duration of the reload
+     */
+    public Duration getDuration() {
+        return Duration.ofNanos(durationNanos);
+    }
+
+    /**
+     * Gets the number of translation keys that were added, removed or changed by the reload.
+     *
+     * @return The number of changed keys
+     */
+    public int getChangedKeys() {
+        return changedKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "ReloadResult{languageCode=" + languageCode + ", duration=" + getDuration() + ", changedKeys=" + changedKeys + "}";
+    }
+}
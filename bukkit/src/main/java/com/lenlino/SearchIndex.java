@@ -0,0 +1,207 @@
+package com.lenlino;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A reverse index from translated names to the constants of one domain.
+ * Names are compared in a folded form in which katakana and hiragana, full-width and half-width forms, and upper and
+ * lower case match each other, and spaces and middle dots are ignored.
+ *
+ * <p>The folded names are kept in a sorted array, so exact and prefix matches are found by binary search and
+ * substring matches by a scan over the short folded names.</p>
+ *
+ * @param <T> The type of the constants
+ */
+final class SearchIndex<T> {
+    /**
+     * The katakana for the half-width forms U+FF61 to U+FF9F.
+     */
+    private static final String HALF_WIDTH_KANA = "\u3002\u300C\u300D\u3001\u30FB\u30F2"
+            + "\u30A1\u30A3\u30A5\u30A7\u30A9\u30E3\u30E5\u30E7\u30C3\u30FC"
+            + "\u30A2\u30A4\u30A6\u30A8\u30AA\u30AB\u30AD\u30AF\u30B1\u30B3"
+            + "\u30B5\u30B7\u30B9\u30BB\u30BD\u30BF\u30C1\u30C4\u30C6\u30C8"
+            + "\u30CA\u30CB\u30CC\u30CD\u30CE\u30CF\u30D2\u30D5\u30D8\u30DB"
+            + "\u30DE\u30DF\u30E0\u30E1\u30E2\u30E4\u30E6\u30E8\u30E9\u30EA"
+            + "\u30EB\u30EC\u30ED\u30EF\u30F3\u309B\u309C";
+
+    private static final char VOICED_MARK = '\u309B';
+    private static final char SEMI_VOICED_MARK = '\u309C';
+    private static final char MIDDLE_DOT = '\u30FB';
+
+    private final String[] names;
+    private final Object[] targets;
+
+    /**
+     * Creates an index over the translations of a domain.
+     *
+     * @param translations The constants and their translated names
+     */
+    SearchIndex(Map<T, String> translations) {
+        String[] folded = new String[translations.size()];
+        Object[] constants = new Object[translations.size()];
+        Integer[] order = new Integer[translations.size()];
+        int i = 0;
+        for (Map.Entry<T, String> entry : translations.entrySet()) {
+            folded[i] = fold(entry.getValue());
+            constants[i] = entry.getKey();
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (a, b) -> folded[a].compareTo(folded[b]));
+
+        this.names = new String[order.length];
+        this.targets = new Object[order.length];
+        for (i = 0; i < order.length; i++) {
+            names[i] = folded[order[i]];
+            targets[i] = constants[order[i]];
+        }
+    }
+
+    /**
+     * Finds the constant whose translated name matches the given name.
+     *
+     * @param name The translated name
+     * @return The constant, or null if no translated name matches
+     */
+    @SuppressWarnings("unchecked")
+    T find(String name) {
+        String key = fold(name);
+        int index = lowerBound(key);
+        return index < names.length && names[index].equals(key) && !key.isEmpty() ? (T) targets[index] : null;
+    }
+
+    /**
+     * Finds the constants whose translated name contains the query.
+     * Names starting with the query come first, in the order of their folded form, followed by names containing it
+     * elsewhere.
+     *
+     * @param query The text to search for
+     * @param limit The maximum number of results
+     * @return The matching constants
+     */
+    @SuppressWarnings("unchecked")
+    List<T> search(String query, int limit) {
+        String key = fold(query);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<T> results = new ArrayList<>(Math.min(limit, 16));
+        int start = lowerBound(key);
+        for (int i = start; i < names.length && results.size() < limit && names[i].startsWith(key); i++) {
+            results.add((T) targets[i]);
+        }
+        for (int i = 0; i < names.length && results.size() < limit; i++) {
+            if (names[i].indexOf(key, 1) >= 0 && !names[i].startsWith(key)) {
+                results.add((T) targets[i]);
+            }
+        }
+        return results;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Converts a name to the form in which names are compared.
+     * Katakana becomes hiragana, full-width ASCII and half-width katakana become their regular forms, letters become
+     * lower case and separate voicing marks are combined with the preceding kana. Spaces and middle dots are removed.
+     *
+     * @param name The name to fold
+     * @return The folded name
+     */
+    static String fold(CharSequence name) {
+        char[] buffer = new char[name.length()];
+        return new String(buffer, 0, fold(name, buffer));
+    }
+
+    /**
+     * Converts a name to the form in which names are compared, writing it into a buffer.
+     * The folded form is never longer than the name.
+     *
+     * @param name The name to fold
+     * @param buffer The buffer to write the folded name to, at least as long as the name
+     * @return The length of the folded name
+     */
+    static int fold(CharSequence name, char[] buffer) {
+        int length = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = foldChar(name.charAt(i));
+            if (c == VOICED_MARK && length > 0) {
+                char voiced = voice(buffer[length - 1]);
+                if (voiced != 0) {
+                    buffer[length - 1] = voiced;
+                    continue;
+                }
+            } else if (c == SEMI_VOICED_MARK && length > 0 && isHaRow(buffer[length - 1])) {
+                buffer[length - 1] += 2;
+                continue;
+            }
+            if (c != ' ' && c != MIDDLE_DOT) {
+                buffer[length++] = c;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Folds a single character. Voicing marks are mapped to U+309B and U+309C.
+     */
+    private static char foldChar(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c < 0x80) {
+            return c;
+        }
+        if (c >= '\uFF01' && c <= '\uFF5E') { // Full-width ASCII
+            return foldChar((char) (c - 0xFEE0));
+        }
+        if (c >= '\uFF61' && c <= '\uFF9F') { // Half-width katakana
+            c = HALF_WIDTH_KANA.charAt(c - 0xFF61);
+        }
+        if (c >= '\u30A1' && c <= '\u30F6') { // Katakana
+            return (char) (c - 0x60);
+        }
+        switch (c) {
+            case '\u3000': return ' '; // Ideographic space
+            case '\u3099': return VOICED_MARK; // Combining voiced mark
+            case '\u309A': return SEMI_VOICED_MARK; // Combining semi-voiced mark
+            default: return Character.toLowerCase(c);
+        }
+    }
+
+    /**
+     * Gets the voiced form of a hiragana, or 0 if it has none.
+     */
+    private static char voice(char c) {
+        if ((c >= '\u304B' && c <= '\u3062' && (c - '\u304B') % 2 == 0) // Ka to chi
+                || (c >= '\u3064' && c <= '\u3068' && (c - '\u3064') % 2 == 0) // Tsu to to
+                || isHaRow(c)) {
+            return (char) (c + 1);
+        }
+        return c == '\u3046' ? '\u3094' : 0; // U to vu
+    }
+
+    /**
+     * Checks if a hiragana is one of ha, hi, fu, he and ho.
+     */
+    private static boolean isHaRow(char c) {
+        return c >= '\u306F' && c <= '\u307B' && (c - '\u306F') % 3 == 0;
+    }
+}
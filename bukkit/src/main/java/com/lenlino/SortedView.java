@@ -0,0 +1,203 @@
+package com.lenlino;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The translated constants of one domain, sorted by their translations in the collation order of a language.
+ * The collation keys are computed once when the view is built, so paging through the view or taking a range of it
+ * never sorts or compares strings again. A view belongs to one set of translations and is replaced when the
+ * language is reloaded.
+ *
+ * <pre>{@code
+ * SortedView<Material> catalogue = translator.getSortedMaterials();
+ * List<Material> page = catalogue.page(2, 45);
+ * List<Material> fromAToC = catalogue.range("A", "C");
+ * }</pre>
+ *
+ * @param <T> The type of the constants
+ */
+public final class SortedView<T> {
+    private final Locale locale;
+    private final Collator collator;
+    private final Object[] values;
+    private final String[] translations;
+    private final CollationKey[] keys;
+    private final List<T> list = new ValueList();
+
+    /**
+     * Creates a view of the translations of a domain.
+     *
+     * @param translations The constants and their translated names
+     * @param locale The locale whose collation order to use
+     */
+    SortedView(Map<T, String> translations, Locale locale) {
+        this.locale = locale;
+        this.collator = Collator.getInstance(locale);
+        CollationKey[] collationKeys = new CollationKey[translations.size()];
+        Object[] constants = new Object[translations.size()];
+        String[] names = new String[translations.size()];
+        Integer[] order = new Integer[translations.size()];
+        int i = 0;
+        for (Map.Entry<T, String> entry : translations.entrySet()) {
+            collationKeys[i] = collator.getCollationKey(entry.getValue());
+            constants[i] = entry.getKey();
+            names[i] = entry.getValue();
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (a, b) -> collationKeys[a].compareTo(collationKeys[b]));
+
+        this.values = new Object[order.length];
+        this.translations = new String[order.length];
+        this.keys = new CollationKey[order.length];
+        for (i = 0; i < order.length; i++) {
+            values[i] = constants[order[i]];
+            this.translations[i] = names[order[i]];
+            keys[i] = collationKeys[order[i]];
+        }
+    }
+
+    /**
+     * Converts a Minecraft language code such as "ja_jp" to the locale used for collation.
+     *
+     * @param languageCode The language code
+     * @return The locale
+     */
+    static Locale toLocale(String languageCode) {
+        return Locale.forLanguageTag(languageCode.replace('_', '-'));
+    }
+
+    /**
+     * Gets the locale whose collation order this view uses.
+     *
+     * @return The locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Gets the number of translated constants.
+     *
+     * @return The size of the view
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets the constant at a position.
+     *
+     * @param index The position, from 0 to {@link #size()} - 1
+     * @return The constant
+     * @throws IndexOutOfBoundsException If the position is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * Gets the translation of the constant at a position.
+     *
+     * @param index The position, from 0 to {@link #size()} - 1
+     * @return The translation
+     * @throws IndexOutOfBoundsException If the position is out of range
+     */
+    public String getTranslation(int index) {
+        return translations[index];
+    }
+
+    /**
+     * Gets all constants in sorted order. The list is an unmodifiable view, so its sub-lists are not copied.
+     *
+     * @return The sorted constants
+     */
+    public List<T> asList() {
+        return list;
+    }
+
+    /**
+     * Gets one page of the sorted constants, e.g. for an inventory GUI.
+     *
+     * @param page The page number, starting at 0
+     * @param pageSize The number of constants per page
+     * @return An unmodifiable view of the constants on the page, empty if the page is past the end
+     * @throws IllegalArgumentException If the page number is negative or the page size is not positive
+     */
+    public List<T> page(int page, int pageSize) {
+        if (page < 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page " + page + " of size " + pageSize);
+        }
+        int from = (int) Math.min((long) page * pageSize, values.length);
+        return list.subList(from, Math.min(from + pageSize, values.length));
+    }
+
+    /**
+     * Gets the number of pages needed to show every constant.
+     *
+     * @param pageSize The number of constants per page
+     * @return The number of pages
+     * @throws IllegalArgumentException If the page size is not positive
+     */
+    public int getPageCount(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page size " + pageSize);
+        }
+        return (values.length + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Gets the position of the first constant whose translation sorts at or after a name.
+     *
+     * @param name The name to compare with
+     * @return The position, or {@link #size()} if every translation sorts before the name
+     */
+    public int indexOf(String name) {
+        CollationKey key = collator.getCollationKey(name);
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the constants whose translations sort from one name up to, but not including, another, such as every
+     * item from "A" to "C".
+     *
+     * @param from The lower bound, inclusive, or null for the start of the view
+     * @param to The upper bound, exclusive, or null for the end of the view
+     * @return An unmodifiable view of the constants in the range
+     */
+    public List<T> range(String from, String to) {
+        int start = from != null ? indexOf(from) : 0;
+        int end = to != null ? indexOf(to) : values.length;
+        return list.subList(start, Math.max(start, end));
+    }
+
+    private final class ValueList extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int index) {
+            return SortedView.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
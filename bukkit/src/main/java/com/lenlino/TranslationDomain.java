@@ -0,0 +1,23 @@
+package com.lenlino;
+
+/**
+ * The kinds of names that a translator translates.
+ */
+public enum TranslationDomain {
+    /**
+     * Materials, i.e. blocks and items.
+     */
+    MATERIAL,
+    /**
+     * Entity types.
+     */
+    ENTITY_TYPE,
+    /**
+     * Potion effect types.
+     */
+    EFFECT_TYPE,
+    /**
+     * Enchantments.
+     */
+    ENCHANTMENT
+}
@@ -0,0 +1,142 @@
+package com.lenlino;
+
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The translation keys of every material, entity type, potion effect type and enchantment, derived from their
+ * {@link NamespacedKey} in the same way as the game: {@code minecraft:diamond_sword} is translated by
+ * {@code item.minecraft.diamond_sword}. The keys are computed once per JVM and shared by all languages, so resolving
+ * a language is a direct lookup of each key.
+ *
+ * <p>Each domain is computed on first use. Potion effect types and enchantments are only available once the server
+ * has registered them.</p>
+ */
+final class TranslationKeyTable {
+    private TranslationKeyTable() {
+    }
+
+    /**
+     * Gets the translation keys of the materials, indexed by ordinal. Blocks are keyed as {@code block.<key>} and
+     * items as {@code item.<key>}. Legacy materials have no key.
+     *
+     * @return The translation keys, with null for materials without a key; must not be modified
+     */
+    static String[] materialKeys() {
+        return MaterialKeys.KEYS;
+    }
+
+    /**
+     * Gets the translation keys of the materials in the other category, indexed by ordinal: {@code item.<key>} for
+     * blocks and {@code block.<key>} for items. These are used when a language has no entry for the primary key.
+     *
+     * @return The alternate translation keys, with null for materials without a key; must not be modified
+     */
+    static String[] materialAlternateKeys() {
+        return MaterialKeys.ALTERNATE_KEYS;
+    }
+
+    /**
+     * Gets the translation keys of the entity types, indexed by ordinal.
+     *
+     * @return The translation keys, with null for entity types without a key; must not be modified
+     */
+    static String[] entityKeys() {
+        return EntityKeys.KEYS;
+    }
+
+    /**
+     * Gets the translation keys of the potion effect types.
+     *
+     * @return An unmodifiable map of potion effect types to their translation keys
+     */
+    static Map<PotionEffectType, String> effectKeys() {
+        return EffectKeys.KEYS;
+    }
+
+    /**
+     * Gets the translation keys of the enchantments.
+     *
+     * @return An unmodifiable map of enchantments to their translation keys
+     */
+    static Map<Enchantment, String> enchantmentKeys() {
+        return EnchantmentKeys.KEYS;
+    }
+
+    /**
+     * Derives the translation key of a registered object, e.g. {@code block.minecraft.stone}.
+     *
+     * @param category The category of the key, e.g. "block"
+     * @param keyed The registered object
+     * @return The translation key, or null if the object has no key
+     */
+    static String translationKey(String category, Keyed keyed) {
+        NamespacedKey key;
+        try {
+            key = keyed.getKey();
+        } catch (IllegalArgumentException e) {
+            // Legacy materials and unknown entity types have no key
+            return null;
+        }
+        return key != null ? category + '.' + key.getNamespace() + '.' + key.getKey() : null;
+    }
+
+    private static final class MaterialKeys {
+        static final String[] KEYS;
+        static final String[] ALTERNATE_KEYS;
+
+        static {
+            Material[] materials = Material.values();
+            KEYS = new String[materials.length];
+            ALTERNATE_KEYS = new String[materials.length];
+            for (Material material : materials) {
+                if (material.isLegacy()) {
+                    continue;
+                }
+                String blockKey = translationKey("block", material);
+                String itemKey = translationKey("item", material);
+                KEYS[material.ordinal()] = material.isBlock() ? blockKey : itemKey;
+                ALTERNATE_KEYS[material.ordinal()] = material.isBlock() ? itemKey : blockKey;
+            }
+        }
+    }
+
+    private static final class EntityKeys {
+        static final String[] KEYS;
+
+        static {
+            EntityType[] entityTypes = EntityType.values();
+            KEYS = new String[entityTypes.length];
+            for (EntityType entityType : entityTypes) {
+                KEYS[entityType.ordinal()] = translationKey("entity", entityType);
+            }
+        }
+    }
+
+    private static final class EffectKeys {
+        static final Map<PotionEffectType, String> KEYS = keysOf("effect", PotionEffectType.values());
+    }
+
+    private static final class EnchantmentKeys {
+        static final Map<Enchantment, String> KEYS = keysOf("enchantment", Enchantment.values());
+    }
+
+    private static <T extends Keyed> Map<T, String> keysOf(String category, T[] values) {
+        Map<T, String> keys = new HashMap<>();
+        for (T value : values) {
+            if (value == null) continue; // Skip null entries in the array
+            String key = translationKey(category, value);
+            if (key != null) {
+                keys.put(value, key);
+            }
+        }
+        return Map.copyOf(keys);
+    }
+}
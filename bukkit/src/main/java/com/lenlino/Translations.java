@@ -0,0 +1,590 @@
+package com.lenlino;
+
+import com.lenlino.core.KeyTranslator;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of the translations of one language.
+ * A translator swaps its snapshot atomically on reload, so readers always see a complete set of tables.
+ *
+ * <p>The table of each domain is resolved from the translation keys the first time it is used, so a language that
+ * is only asked for material names never resolves its entity, effect or enchantment tables. Tables are immutable:
+ * if two threads resolve the same table at once, both build equal tables and either one is kept.</p>
+ *
+ * <p>The translations of the fallback languages of a language are merged into its translation keys with
+ * {@link #mergeFallback(Map, Map)} before they are frozen, so a snapshot never refers to the snapshots of other
+ * languages and each lookup is a single read however long the chain is.</p>
+ *
+ * <p>A language whose keys are memory-mapped ({@link KeyTranslator#isMapped()}) translates single constants straight from the
+ * mapped file, so its translations stay off the heap. Its tables are only resolved for the methods that need them
+ * all, such as {@code getAllTranslations()}, search and completion.</p>
+ */
+final class Translations {
+    private static final Material[] MATERIALS = Material.values();
+    private static final EntityType[] ENTITY_TYPES = EntityType.values();
+
+    /**
+     * A snapshot without any translations.
+     */
+    static final Translations EMPTY = new Translations(Map.of(), false, 0);
+
+    final Map<String, String> entries;
+    /**
+     * Whether the translation keys are memory-mapped rather than held on the heap.
+     */
+    private final boolean mapped;
+    /**
+     * The number of translations merged into the translation keys from fallback languages before they were frozen.
+     */
+    private final int mergedGaps;
+
+    private volatile EnumTable<Material> materialTable;
+    private volatile EnumTable<EntityType> entityTable;
+    private volatile Map<PotionEffectType, String> effectTranslationMap;
+    private volatile Map<Enchantment, String> enchantmentTranslationMap;
+    private volatile Map<CustomDomain<?>, Map<Object, String>> customTables;
+
+    /**
+     * The number of levels and amplifiers whose composite names are cached per enchantment and potion effect type.
+     */
+    static final int CACHED_LEVELS = 10;
+    /**
+     * Composite names such as "Sharpness V", indexed by level - 1.
+     */
+    final Map<Enchantment, String[]> enchantmentLevelNames = new ConcurrentHashMap<>();
+    /**
+     * Composite names such as "Strength II", indexed by amplifier.
+     */
+    final Map<PotionEffectType, String[]> effectPotencyNames = new ConcurrentHashMap<>();
+
+    private volatile SearchIndex<Material> materialIndex;
+    private volatile SearchIndex<EntityType> entityIndex;
+    private volatile SearchIndex<PotionEffectType> effectIndex;
+    private volatile SearchIndex<Enchantment> enchantmentIndex;
+    private volatile CompletionIndex materialCompletions;
+    private volatile CompletionIndex entityCompletions;
+    private volatile CompletionIndex effectCompletions;
+    private volatile CompletionIndex enchantmentCompletions;
+    private volatile SortedView<Material> sortedMaterials;
+    private volatile SortedView<EntityType> sortedEntityTypes;
+    private volatile SortedView<PotionEffectType> sortedEffectTypes;
+    private volatile SortedView<Enchantment> sortedEnchantments;
+
+    private Translations(Map<String, String> entries, boolean mapped, int mergedGaps) {
+        this.entries = entries;
+        this.mapped = mapped;
+        this.mergedGaps = mergedGaps;
+    }
+
+    /**
+     * Creates a snapshot of the translations of a language whose fallback languages were already merged into its
+     * translation keys. The tables are resolved from the translation keys when they are first used.
+     *
+     * @param keys The translation keys and values of the language and its fallback languages
+     * @param mergedGaps The number of translations merged from the fallback languages
+     * @return The translations
+     * @see #mergeFallback(Map, Map)
+     */
+    static Translations resolve(KeyTranslator keys, int mergedGaps) {
+        return new Translations(keys.getAllTranslations(), keys.isMapped(), mergedGaps);
+    }
+
+    /**
+     * Adds the translations of a fallback language to the translation keys of a language, for every constant and
+     * key the language does not translate. A material translated under its alternate key is also stored under its
+     * derived key first, so that the derived key of the fallback does not take precedence. The languages of a chain
+     * are merged in order, so the first fallback language that translates a constant wins.
+     *
+     * @param entries The mutable translation keys and values of the language
+     * @param fallback The translation keys and values of the fallback language
+     * @return The number of materials, entity types, potion effect types and enchantments taken from the fallback
+     */
+    static int mergeFallback(Map<String, String> entries, Map<String, String> fallback) {
+        int merged = 0;
+        String[] materialKeys = TranslationKeyTable.materialKeys();
+        String[] alternateKeys = TranslationKeyTable.materialAlternateKeys();
+        for (int i = 0; i < materialKeys.length; i++) {
+            String key = materialKeys[i];
+            if (key == null || entries.containsKey(key)) {
+                continue;
+            }
+            String translation = entries.get(alternateKeys[i]);
+            if (translation == null) {
+                translation = fallback.get(key);
+                if (translation == null) {
+                    translation = fallback.get(alternateKeys[i]);
+                }
+                if (translation != null) {
+                    merged++;
+                }
+            }
+            if (translation != null) {
+                entries.put(key, translation);
+            }
+        }
+        for (String key : TranslationKeyTable.entityKeys()) {
+            if (key != null && !entries.containsKey(key) && fallback.containsKey(key)) {
+                merged++;
+            }
+        }
+        for (String key : TranslationKeyTable.effectKeys().values()) {
+            if (!entries.containsKey(key) && fallback.containsKey(key)) {
+                merged++;
+            }
+        }
+        for (String key : TranslationKeyTable.enchantmentKeys().values()) {
+            if (!entries.containsKey(key) && fallback.containsKey(key)) {
+                merged++;
+            }
+        }
+        for (Map.Entry<String, String> entry : fallback.entrySet()) {
+            entries.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        return merged;
+    }
+
+    /**
+     * Gets the number of translations taken from fallback languages.
+     *
+     * @return The number of filled gaps
+     */
+    int filledGaps() {
+        return mergedGaps;
+    }
+
+    /**
+     * Gets the translation of a material, reading it from the mapped file if the keys are mapped.
+     *
+     * @param material The material
+     * @return The translation, or null if there is none
+     */
+    String material(Material material) {
+        if (!mapped) {
+            return materialTable().get(material);
+        }
+        int ordinal = material.ordinal();
+        String key = TranslationKeyTable.materialKeys()[ordinal];
+        String translation = null;
+        if (key != null) {
+            translation = entries.get(key);
+            if (translation == null) {
+                translation = entries.get(TranslationKeyTable.materialAlternateKeys()[ordinal]);
+            }
+        }
+        return translation;
+    }
+
+    /**
+     * Gets the translation of an entity type, reading it from the mapped file if the keys are mapped.
+     *
+     * @param entityType The entity type
+     * @return The translation, or null if there is none
+     */
+    String entityType(EntityType entityType) {
+        if (!mapped) {
+            return entityTable().get(entityType);
+        }
+        return entries.get(TranslationKeyTable.entityKeys()[entityType.ordinal()]);
+    }
+
+    /**
+     * Gets the translation of a potion effect type, reading it from the mapped file if the keys are mapped.
+     *
+     * @param effectType The potion effect type
+     * @return The translation, or null if there is none
+     */
+    String effectType(PotionEffectType effectType) {
+        if (!mapped) {
+            return effectTranslationMap().get(effectType);
+        }
+        return entries.get(TranslationKeyTable.effectKeys().get(effectType));
+    }
+
+    /**
+     * Gets the translation of an enchantment, reading it from the mapped file if the keys are mapped.
+     *
+     * @param enchantment The enchantment
+     * @return The translation, or null if there is none
+     */
+    String enchantment(Enchantment enchantment) {
+        if (!mapped) {
+            return enchantmentTranslationMap().get(enchantment);
+        }
+        return entries.get(TranslationKeyTable.enchantmentKeys().get(enchantment));
+    }
+
+    /**
+     * Gets the material table, resolving it on first use.
+     *
+     * @return The material table
+     */
+    EnumTable<Material> materialTable() {
+        EnumTable<Material> table = materialTable;
+        if (table == null) {
+            table = resolveMaterials(entries);
+            materialTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Gets the entity type table, resolving it on first use.
+     *
+     * @return The entity type table
+     */
+    EnumTable<EntityType> entityTable() {
+        EnumTable<EntityType> table = entityTable;
+        if (table == null) {
+            table = resolveEntityTypes(entries);
+            entityTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Gets the potion effect type translations, resolving them on first use.
+     *
+     * @return The potion effect type translations
+     */
+    Map<PotionEffectType, String> effectTranslationMap() {
+        Map<PotionEffectType, String> map = effectTranslationMap;
+        if (map == null) {
+            map = resolveEffectTypes(entries);
+            effectTranslationMap = map;
+        }
+        return map;
+    }
+
+    /**
+     * Gets the enchantment translations, resolving them on first use.
+     *
+     * @return The enchantment translations
+     */
+    Map<Enchantment, String> enchantmentTranslationMap() {
+        Map<Enchantment, String> map = enchantmentTranslationMap;
+        if (map == null) {
+            map = resolveEnchantments(entries);
+            enchantmentTranslationMap = map;
+        }
+        return map;
+    }
+
+    /**
+     * Gets the translations of a custom domain. The tables of all registered domains are resolved together on first
+     * use, in a single pass over the translation keys.
+     *
+     * @param domain The custom domain
+     * @param <T> The type of the translated objects
+     * @return An unmodifiable map of the translated objects to their translations
+     */
+    @SuppressWarnings("unchecked")
+    <T> Map<T, String> customTable(CustomDomain<T> domain) {
+        return (Map<T, String>) customTables().getOrDefault(domain, Map.of());
+    }
+
+    private Map<CustomDomain<?>, Map<Object, String>> customTables() {
+        Map<CustomDomain<?>, Map<Object, String>> tables = customTables;
+        if (tables == null) {
+            tables = DomainRegistry.dispatcher().dispatch(entries);
+            customTables = tables;
+        }
+        return tables;
+    }
+
+    /**
+     * Gets the number of translated constants of a domain.
+     *
+     * @param domain The domain
+     * @return The number of translations
+     */
+    int size(TranslationDomain domain) {
+        switch (domain) {
+            case MATERIAL: return materialTable().size();
+            case ENTITY_TYPE: return entityTable().size();
+            case EFFECT_TYPE: return effectTranslationMap().size();
+            case ENCHANTMENT: return enchantmentTranslationMap().size();
+            default: throw new IllegalArgumentException("Unknown domain: " + domain);
+        }
+    }
+
+    /**
+     * Lists the translation keys of the constants without a translation.
+     *
+     * @return The missing translation keys, sorted
+     */
+    List<String> missingKeys() {
+        List<String> missing = new ArrayList<>();
+        addMissing(missing, TranslationKeyTable.materialKeys(), MATERIALS, materialTable());
+        addMissing(missing, TranslationKeyTable.entityKeys(), ENTITY_TYPES, entityTable());
+        addMissing(missing, TranslationKeyTable.effectKeys(), effectTranslationMap());
+        addMissing(missing, TranslationKeyTable.enchantmentKeys(), enchantmentTranslationMap());
+        Collections.sort(missing);
+        return missing;
+    }
+
+    private static <E extends Enum<E>> void addMissing(List<String> missing, String[] keys, E[] universe, EnumTable<E> table) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && !table.contains(universe[i])) {
+                missing.add(keys[i]);
+            }
+        }
+    }
+
+    private static <K> void addMissing(List<String> missing, Map<K, String> keys, Map<K, String> translations) {
+        for (Map.Entry<K, String> key : keys.entrySet()) {
+            if (!translations.containsKey(key.getKey())) {
+                missing.add(key.getValue());
+            }
+        }
+    }
+
+    /**
+     * Gets the reverse index of the material translations, building it on first use.
+     * The index is immutable, so a race only builds it twice.
+     *
+     * @return The reverse index
+     */
+    SearchIndex<Material> materialIndex() {
+        SearchIndex<Material> index = materialIndex;
+        if (index == null) {
+            index = new SearchIndex<>(materialTable().asMap());
+            materialIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the reverse index of the entity type translations, building it on first use.
+     *
+     * @return The reverse index
+     */
+    SearchIndex<EntityType> entityIndex() {
+        SearchIndex<EntityType> index = entityIndex;
+        if (index == null) {
+            index = new SearchIndex<>(entityTable().asMap());
+            entityIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the reverse index of the potion effect type translations, building it on first use.
+     *
+     * @return The reverse index
+     */
+    SearchIndex<PotionEffectType> effectIndex() {
+        SearchIndex<PotionEffectType> index = effectIndex;
+        if (index == null) {
+            index = new SearchIndex<>(effectTranslationMap());
+            effectIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the reverse index of the enchantment translations, building it on first use.
+     *
+     * @return The reverse index
+     */
+    SearchIndex<Enchantment> enchantmentIndex() {
+        SearchIndex<Enchantment> index = enchantmentIndex;
+        if (index == null) {
+            index = new SearchIndex<>(enchantmentTranslationMap());
+            enchantmentIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the completion index of the materials, building it on first use.
+     * Materials are completed by translated name and by lower-case name. The index is immutable, so a race only
+     * builds it twice.
+     *
+     * @return The completion index
+     */
+    CompletionIndex materialCompletions() {
+        CompletionIndex index = materialCompletions;
+        if (index == null) {
+            index = new CompletionIndex(MATERIALS, materialTable()::get,
+                    material -> material.isLegacy() ? null : material.name().toLowerCase(Locale.ROOT));
+            materialCompletions = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the completion index of the entity types, building it on first use.
+     * Entity types are completed by translated name and by lower-case name.
+     *
+     * @return The completion index
+     */
+    CompletionIndex entityCompletions() {
+        CompletionIndex index = entityCompletions;
+        if (index == null) {
+            index = new CompletionIndex(ENTITY_TYPES, entityTable()::get,
+                    entityType -> entityType.name().toLowerCase(Locale.ROOT));
+            entityCompletions = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the completion index of the potion effect types, building it on first use.
+     * Potion effect types are completed by translated name and by key.
+     *
+     * @return The completion index
+     */
+    CompletionIndex effectCompletions() {
+        CompletionIndex index = effectCompletions;
+        if (index == null) {
+            index = new CompletionIndex(PotionEffectType.values(), effectTranslationMap()::get,
+                    effectType -> effectType.getKey().getKey());
+            effectCompletions = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the completion index of the enchantments, building it on first use.
+     * Enchantments are completed by translated name and by key.
+     *
+     * @return The completion index
+     */
+    CompletionIndex enchantmentCompletions() {
+        CompletionIndex index = enchantmentCompletions;
+        if (index == null) {
+            index = new CompletionIndex(Enchantment.values(), enchantmentTranslationMap()::get,
+                    enchantment -> enchantment.getKey().getKey());
+            enchantmentCompletions = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the materials sorted by translation, building the view on first use.
+     * The view is immutable, so a race only builds it twice.
+     *
+     * @param locale The locale whose collation order to use
+     * @return The sorted view
+     */
+    SortedView<Material> sortedMaterials(Locale locale) {
+        SortedView<Material> view = sortedMaterials;
+        if (view == null) {
+            view = new SortedView<>(materialTable().asMap(), locale);
+            sortedMaterials = view;
+        }
+        return view;
+    }
+
+    /**
+     * Gets the entity types sorted by translation, building the view on first use.
+     *
+     * @param locale The locale whose collation order to use
+     * @return The sorted view
+     */
+    SortedView<EntityType> sortedEntityTypes(Locale locale) {
+        SortedView<EntityType> view = sortedEntityTypes;
+        if (view == null) {
+            view = new SortedView<>(entityTable().asMap(), locale);
+            sortedEntityTypes = view;
+        }
+        return view;
+    }
+
+    /**
+     * Gets the potion effect types sorted by translation, building the view on first use.
+     *
+     * @param locale The locale whose collation order to use
+     * @return The sorted view
+     */
+    SortedView<PotionEffectType> sortedEffectTypes(Locale locale) {
+        SortedView<PotionEffectType> view = sortedEffectTypes;
+        if (view == null) {
+            view = new SortedView<>(effectTranslationMap(), locale);
+            sortedEffectTypes = view;
+        }
+        return view;
+    }
+
+    /**
+     * Gets the enchantments sorted by translation, building the view on first use.
+     *
+     * @param locale The locale whose collation order to use
+     * @return The sorted view
+     */
+    SortedView<Enchantment> sortedEnchantments(Locale locale) {
+        SortedView<Enchantment> view = sortedEnchantments;
+        if (view == null) {
+            view = new SortedView<>(enchantmentTranslationMap(), locale);
+            sortedEnchantments = view;
+        }
+        return view;
+    }
+
+    /**
+     * Resolves the material translations from the translation keys of a language.
+     * Each material is looked up by its derived key, and by the key of the other category if that is missing.
+     */
+    private static EnumTable<Material> resolveMaterials(Map<String, String> entries) {
+        String[] keys = TranslationKeyTable.materialKeys();
+        String[] alternateKeys = TranslationKeyTable.materialAlternateKeys();
+        String[] materials = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                String translation = entries.get(keys[i]);
+                materials[i] = translation != null ? translation : entries.get(alternateKeys[i]);
+            }
+        }
+        return new EnumTable<>(MATERIALS, materials);
+    }
+
+    /**
+     * Resolves the entity type translations from the translation keys of a language.
+     */
+    private static EnumTable<EntityType> resolveEntityTypes(Map<String, String> entries) {
+        String[] keys = TranslationKeyTable.entityKeys();
+        String[] entities = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                entities[i] = entries.get(keys[i]);
+            }
+        }
+        return new EnumTable<>(ENTITY_TYPES, entities);
+    }
+
+    /**
+     * Resolves the potion effect type translations from the translation keys of a language.
+     */
+    private static Map<PotionEffectType, String> resolveEffectTypes(Map<String, String> entries) {
+        return resolveKeyed(TranslationKeyTable.effectKeys(), entries);
+    }
+
+    /**
+     * Resolves the enchantment translations from the translation keys of a language.
+     */
+    private static Map<Enchantment, String> resolveEnchantments(Map<String, String> entries) {
+        return resolveKeyed(TranslationKeyTable.enchantmentKeys(), entries);
+    }
+
+    private static <K> Map<K, String> resolveKeyed(Map<K, String> keys, Map<String, String> entries) {
+        Map<K, String> translations = new HashMap<>();
+        for (Map.Entry<K, String> key : keys.entrySet()) {
+            String translation = entries.get(key.getValue());
+            if (translation != null) {
+                translations.put(key.getKey(), translation);
+            }
+        }
+        return Map.copyOf(translations);
+    }
+}
@@ -0,0 +1,121 @@
+package com.lenlino;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Usage statistics of the translator of one language.
+ * Lookups are only counted while metrics are enabled with {@link McMaterialTranslator#setMetricsEnabled(boolean)};
+ * load times, translation counts and missing keys are always available.
+ *
+ * <p>Counters are striped, so threads translating at the same time do not contend on them. A translator only creates
+ * its metrics when lookups are first counted or {@link McMaterialTranslator#getMetrics()} is first called.</p>
+ */
+public final class TranslatorMetrics {
+    private static final TranslationDomain[] DOMAINS = TranslationDomain.values();
+
+    private final McMaterialTranslator translator;
+    private final LongAdder[] hits = new LongAdder[DOMAINS.length];
+    private final LongAdder[] misses = new LongAdder[DOMAINS.length];
+
+    TranslatorMetrics(McMaterialTranslator translator) {
+        this.translator = translator;
+        for (int i = 0; i < DOMAINS.length; i++) {
+            hits[i] = new LongAdder();
+            misses[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts a lookup.
+     *
+     * @param domain The domain of the translated name
+     * @param hit true if a translation was found, false if the name was returned instead
+     */
+    void record(TranslationDomain domain, boolean hit) {
+        (hit ? hits : misses)[domain.ordinal()].increment();
+    }
+
+    /**
+     * Gets the language code of the translator.
+     *
+     * @return The language code
+     */
+    public String getLanguageCode() {
+        return translator.getLanguageCode();
+    }
+
+    /**
+     * Gets the number of lookups in a domain that found a translation while metrics were enabled.
+     *
+     * @param domain The domain
+     * @return The number of hits
+     */
+    public long getHitCount(TranslationDomain domain) {
+        return hits[domain.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of lookups in a domain that found no translation and returned the name instead while metrics
+     * were enabled.
+     *
+     * @param domain The domain
+     * @return The number of misses
+     */
+    public long getMissCount(TranslationDomain domain) {
+        return misses[domain.ordinal()].sum();
+    }
+
+    /**
+     * Gets the time taken by the latest load or reload of the language, including its fallback languages.
+     *
+     * @return The load time, or zero for a placeholder translator
+     */
+    public Duration getLoadTime() {
+        return Duration.ofNanos(translator.loadNanos());
+    }
+
+    /**
+     * Gets the number of constants of a domain that have a translation.
+     *
+     * @param domain The domain
+     * @return The number of translated constants
+     */
+    public int getTranslationCount(TranslationDomain domain) {
+        return translator.translations().size(domain);
+    }
+
+    /**
+     * Gets the translation keys that are missing from the language, such as {@code item.minecraft.diamond}.
+     * Every material, entity type, potion effect type and enchantment without a translation is listed with the
+     * key under which the game translates it, so the list can be exported to complete a language file.
+     *
+     * @return The missing translation keys, sorted
+     */
+    public List<String> getMissingKeys() {
+        return translator.translations().missingKeys();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void reset() {
+        for (int i = 0; i < DOMAINS.length; i++) {
+            hits[i].reset();
+            misses[i].reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("TranslatorMetrics{language=").append(getLanguageCode())
+                .append(", loadTime=").append(getLoadTime());
+        for (TranslationDomain domain : DOMAINS) {
+            builder.append(", ").append(domain).append("={hits=").append(getHitCount(domain))
+                    .append(", misses=").append(getMissCount(domain))
+                    .append(", translations=").append(getTranslationCount(domain)).append('}');
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.lenlino;
+
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the translation key derived for every material and entity type resolves in the bundled ja_jp file.
+ */
+class TranslationCoverageTest {
+    private static McMaterialTranslator translator;
+
+    @BeforeAll
+    static void loadLanguage() throws IOException {
+        translator = McMaterialTranslator.load("ja_jp");
+    }
+
+    @Test
+    void everyMaterialKeyResolves() {
+        String[] keys = TranslationKeyTable.materialKeys();
+        List<String> missing = new ArrayList<>();
+        for (Material material : Material.values()) {
+            String key = keys[material.ordinal()];
+            if (key != null && !translator.hasTranslation(material)) {
+                missing.add(material.name() + " (" + key + ")");
+            }
+        }
+        assertTrue(missing.isEmpty(), () -> "Materials without a ja_jp translation: " + missing);
+    }
+
+    @Test
+    void everyEntityTypeKeyResolves() {
+        String[] keys = TranslationKeyTable.entityKeys();
+        List<String> missing = new ArrayList<>();
+        for (EntityType entityType : EntityType.values()) {
+            String key = keys[entityType.ordinal()];
+            if (key != null && !translator.hasTranslation(entityType)) {
+                missing.add(entityType.name() + " (" + key + ")");
+            }
+        }
+        assertTrue(missing.isEmpty(), () -> "Entity types without a ja_jp translation: " + missing);
+    }
+}
@@ -0,0 +1,66 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Reads language files from the hash-named object store of a Minecraft installation.
+ */
+final class AssetIndexLanguageSource implements LanguageSource {
+    private static final String LANG_PATH_PREFIX = "minecraft/lang/";
+
+    private final Path assetsDirectory;
+    private final String indexName;
+    private volatile Map<String, String> hashes;
+
+    AssetIndexLanguageSource(Path assetsDirectory, String indexName) {
+        this.assetsDirectory = assetsDirectory;
+        this.indexName = indexName;
+    }
+
+    @Override
+    public ByteBuffer read(String languageCode) throws IOException {
+        String hash = hashes().get(LANG_PATH_PREFIX + languageCode + ".json");
+        if (hash == null || hash.length() < 2) {
+            return null;
+        }
+        return map(assetsDirectory.resolve("objects").resolve(hash.substring(0, 2)).resolve(hash));
+    }
+
+    /**
+     * Gets the hashes of the language files, reading the asset index on first use.
+     */
+    private Map<String, String> hashes() throws IOException {
+        Map<String, String> result = hashes;
+        if (result == null) {
+            synchronized (this) {
+                result = hashes;
+                if (result == null) {
+                    Path index = assetsDirectory.resolve("indexes").resolve(indexName + ".json");
+                    result = LanguageFileReader.readAssetIndex(map(index), LANG_PATH_PREFIX);
+                    hashes = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "asset index " + assetsDirectory.resolve("indexes").resolve(indexName + ".json");
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Could not find " + file);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
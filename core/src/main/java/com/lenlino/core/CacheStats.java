@@ -0,0 +1,48 @@
+package com.lenlino.core;
+
+/**
+ * A snapshot of the statistics of a language cache, such as the one used by {@link KeyTranslator#getInstance(String)}.
+ */
+public final class CacheStats {
+    private final int size;
+    private final long loadCount;
+    private final long evictionCount;
+
+    CacheStats(int size, long loadCount, long evictionCount) {
+        this.size = size;
+        this.loadCount = loadCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Gets the number of languages currently cached, including languages that are still loading.
+     *
+     * @return The number of cached languages
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of times a language was added to the cache, including reloads after eviction.
+     *
+     * @return The number of loads
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Gets the number of languages evicted from the cache.
+     *
+     * @return The number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{size=" + size + ", loadCount=" + loadCount + ", evictionCount=" + evictionCount + "}";
+    }
+}
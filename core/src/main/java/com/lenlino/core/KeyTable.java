@@ -0,0 +1,128 @@
+package com.lenlino.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of translation keys to values stored in two parallel open-addressed arrays.
+ * Unlike a {@link java.util.HashMap} it allocates no node per entry, so a loaded language costs about two
+ * references per slot on top of its strings. Values are drawn from the {@link StringPool}.
+ */
+final class KeyTable extends AbstractMap<String, String> {
+    private static final KeyTable EMPTY = new KeyTable(0);
+
+    private final String[] keys;
+    private final String[] values;
+    private final int mask;
+    private int size;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    private KeyTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Copies the entries of a map into a new table and pools their values.
+     *
+     * @param entries The translation keys and values
+     * @return The table
+     */
+    static KeyTable of(Map<String, String> entries) {
+        if (entries instanceof KeyTable) {
+            return (KeyTable) entries;
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        KeyTable table = new KeyTable(entries.size());
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            table.add(entry.getKey(), entry.getValue());
+        }
+        StringPool.internValues(table, table.values);
+        return table;
+    }
+
+    private void add(String key, String value) {
+        int slot = slot(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    private int slot(Object key) {
+        int hash = key.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    @Override
+    public String get(Object key) {
+        return key == null ? null : values[slot(key)];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private int slot = advance(0);
+
+        private int advance(int from) {
+            while (from < keys.length && keys[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (slot >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, String> entry = new SimpleImmutableEntry<>(keys[slot], values[slot]);
+            slot = advance(slot + 1);
+            return entry;
+        }
+    }
+}
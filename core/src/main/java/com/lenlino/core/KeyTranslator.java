@@ -0,0 +1,324 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Translates Minecraft translation keys such as {@code block.minecraft.stone} without a server.
+ * It only depends on the JDK, so it also runs on proxies such as Velocity and BungeeCord, in command line tools and in
+ * plain JVM tests. The Bukkit translator keeps the keys of each of its languages in a key translator created with
+ * {@link #of(String, Map)} and resolves its materials, entity types, effects and enchantments from it.
+ *
+ * <pre>{@code
+ * KeyTranslator translator = KeyTranslator.getInstance("en_us");
+ * translator.translate("item.minecraft.diamond_sword");  // "Diamond Sword"
+ * translator.translateId("item", "minecraft:diamond");   // "Diamond"
+ * }</pre>
+ *
+ * <p>Instances are immutable. The keys of a language are stored in a compact open-addressed table rather than a
+ * hash map, and equal values of different languages share one string. If a mapped store directory is set with
+ * {@link #setMappedStoreDirectory(Path)}, languages loaded afterwards are memory-mapped from there instead.</p>
+ */
+public final class KeyTranslator {
+    private static final String DEFAULT_NAMESPACE = "minecraft";
+
+    private static final LanguageCache<KeyTranslator> instances = new LanguageCache<>();
+
+    private final String languageCode;
+    private final Map<String, String> table;
+
+    private KeyTranslator(String languageCode, Map<String, String> table) {
+        this.languageCode = languageCode;
+        this.table = table;
+    }
+
+    /**
+     * Gets the translator for the specified language, loading it on first use.
+     * The keys of blocks, items, entities, effects and enchantments are loaded. A language that cannot be loaded is
+     * reported once and not read again until the retry delay of the cache has passed.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @return The translator, or a translator without translations if the language cannot be loaded
+     */
+    public static KeyTranslator getInstance(String languageCode) {
+        try {
+            return getInstanceAsync(languageCode, Runnable::run).join();
+        } catch (CompletionException e) {
+            return new KeyTranslator(languageCode, KeyTable.of(Map.of()));
+        }
+    }
+
+    /**
+     * Gets the translator for the specified language, loading it in the background on the common pool if needed.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @return A future completed with the translator, or completed exceptionally if the language cannot be loaded
+     */
+    public static CompletableFuture<KeyTranslator> getInstanceAsync(String languageCode) {
+        return getInstanceAsync(languageCode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Gets the translator for the specified language, loading it on the given executor if needed.
+     * Concurrent requests for the same language share one load.
+     *
+     * @param languageCode The language code (e.g., "ja_jp", "en_us")
+     * @param executor The executor to load the language on
+     * @return A future completed with the translator, or completed exceptionally if the language cannot be loaded
+     */
+    public static CompletableFuture<KeyTranslator> getInstanceAsync(String languageCode, Executor executor) {
+        Objects.requireNonNull(languageCode, "languageCode");
+        return instances.getOrLoad(languageCode, executor, code -> load(code, TranslationKeys.DOMAIN_PREFIXES));
+    }
+
+    /**
+     * Loads a new translator for a language without caching it.
+     *
+     * @param languageCode The language code to load
+     * @param keyPrefixes The prefixes of the keys to load, e.g. {@code "item.minecraft."}
+     * @return The loaded translator
+     * @throws IOException If the language is not available from any source, or cannot be read
+     */
+    public static KeyTranslator load(String languageCode, String... keyPrefixes) throws IOException {
+        return of(languageCode, readEntries(languageCode, keyPrefixes));
+    }
+
+    /**
+     * Reads the translation keys of a language without storing them, e.g. to merge several languages before
+     * creating a translator with {@link #of(String, Map)}.
+     * The keys are read from the first language source that has the language, or else from the files bundled with
+     * this library. Keys from the override directory, if one is set, replace them.
+     *
+     * @param languageCode The language code to read
+     * @param keyPrefixes The prefixes of the keys to read, e.g. {@code "item.minecraft."}
+     * @return A new mutable map of translation keys to translations
+     * @throws IOException If the language is not available from any source, or cannot be read
+     */
+    public static Map<String, String> readEntries(String languageCode, String... keyPrefixes) throws IOException {
+        Objects.requireNonNull(languageCode, "languageCode");
+        return LanguageLoader.readEntries(languageCode, keyPrefixes.clone());
+    }
+
+    /**
+     * Creates a translator for a language from its translation keys without caching it.
+     * The keys are copied into a compact table, or into a memory-mapped file if a mapped store directory is set.
+     *
+     * @param languageCode The language code of the translations
+     * @param entries The translation keys and translations, which are not used afterwards
+     * @return The translator
+     * @throws IOException If the mapped file cannot be written or mapped
+     */
+    public static KeyTranslator of(String languageCode, Map<String, String> entries) throws IOException {
+        Objects.requireNonNull(languageCode, "languageCode");
+        return new KeyTranslator(languageCode, LanguageLoader.freeze(languageCode, entries));
+    }
+
+    /**
+     * Removes a language from the cache. It is loaded again on its next use.
+     *
+     * @param languageCode The language code to evict
+     * @return true if the language was cached
+     */
+    public static boolean evictLanguage(String languageCode) {
+        return instances.invalidate(languageCode);
+    }
+
+    /**
+     * Gets the statistics of the language cache.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    public static CacheStats getCacheStats() {
+        return instances.stats();
+    }
+
+    /**
+     * Adds a source of language files, such as the asset store of a Minecraft installation or a ZIP file with
+     * language files. Sources are consulted in the order they were added, before the languages bundled with this
+     * library. Languages that are already loaded keep their translations until they are loaded again, and languages
+     * that failed to load are loaded again on their next use.
+     *
+     * @param source The language source to add
+     * @see LanguageSource#assetIndex(Path, String)
+     * @see LanguageSource#zip(Path)
+     */
+    public static void addLanguageSource(LanguageSource source) {
+        LanguageLoader.addLanguageSource(source);
+        instances.invalidateFailures();
+    }
+
+    /**
+     * Removes a language source added with {@link #addLanguageSource(LanguageSource)}.
+     * The source is not closed.
+     *
+     * @param source The language source to remove
+     */
+    public static void removeLanguageSource(LanguageSource source) {
+        LanguageLoader.removeLanguageSource(source);
+    }
+
+    /**
+     * Sets a directory with language files whose keys replace those read from the sources. A file named
+     * {@code <language code>.json} overrides that language; it may also add a language that is not available
+     * otherwise. Languages that are already loaded keep their translations until they are loaded again, and languages
+     * that failed to load are loaded again on their next use.
+     *
+     * @param directory The override directory, or null to stop using overrides
+     */
+    public static void setOverrideDirectory(Path directory) {
+        LanguageLoader.setOverrideDirectory(directory);
+        instances.invalidateFailures();
+    }
+
+    /**
+     * Gets the directory with language files that override the translations read from the sources.
+     *
+     * @return The override directory, or null if none is set
+     */
+    public static Path getOverrideDirectory() {
+        return LanguageLoader.getOverrideDirectory();
+    }
+
+    /**
+     * Keeps the translations of languages loaded from now on in memory-mapped files in a directory instead of on the
+     * heap. Each language is stored once as a compact UTF-8 table; processes on the same host that use the same
+     * directory map the same file and share it through the page cache. The directory is shared with the Bukkit
+     * translator. Languages that are already cached keep their tables until they are evicted.
+     *
+     * @param directory The directory shared by the processes, or null to keep translations on the heap
+     * @throws IOException If the directory cannot be created
+     */
+    public static void setMappedStoreDirectory(Path directory) throws IOException {
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        LanguageLoader.setMappedStoreDirectory(directory);
+    }
+
+    /**
+     * Gets the directory in which translations are memory-mapped.
+     *
+     * @return The mapped store directory, or null if translations are kept on the heap
+     */
+    public static Path getMappedStoreDirectory() {
+        return LanguageLoader.getMappedStoreDirectory();
+    }
+
+    /**
+     * Gets the number of distinct translation strings shared by all loaded languages.
+     * Equal translations of different languages are stored once, so this grows with the number of distinct strings
+     * rather than with the number of languages.
+     *
+     * @return The number of pooled strings
+     */
+    public static int getPooledStringCount() {
+        return StringPool.size();
+    }
+
+    /**
+     * Gets the estimated heap memory saved by sharing equal translation strings between the loaded languages.
+     * A reloaded or unloaded language stops counting once its old table is garbage collected.
+     *
+     * @return The estimated number of bytes saved
+     */
+    public static long getPooledBytesSaved() {
+        return StringPool.bytesSaved();
+    }
+
+    /**
+     * Gets the language code of this translator.
+     *
+     * @return The language code
+     */
+    public String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Gets the translation of a key.
+     *
+     * @param key The translation key, e.g. "block.minecraft.stone"
+     * @return The translation, or the key itself if no translation is found
+     */
+    public String translate(String key) {
+        String translation = table.get(key);
+        return translation != null ? translation : key;
+    }
+
+    /**
+     * Gets the translation of a namespaced ID such as {@code minecraft:diamond}, as sent by the client or found in
+     * a configuration file. An ID without a namespace is in the {@code minecraft} namespace.
+     *
+     * @param category The key category, e.g. "block", "item", "entity", "effect" or "enchantment"
+     * @param id The namespaced ID, e.g. "minecraft:diamond" or "diamond"
+     * @return The translation, or the ID itself if no translation is found
+     */
+    public String translateId(String category, String id) {
+        int separator = id.indexOf(':');
+        String namespace = separator >= 0 ? id.substring(0, separator) : DEFAULT_NAMESPACE;
+        String translation = table.get(category + '.' + namespace + '.' + id.substring(separator + 1));
+        return translation != null ? translation : id;
+    }
+
+    /**
+     * Gets the translation of a key.
+     *
+     * @param key The translation key
+     * @return The translation, or null if no translation is found
+     */
+    public String getTranslation(String key) {
+        return table.get(key);
+    }
+
+    /**
+     * Checks whether a key has a translation.
+     *
+     * @param key The translation key
+     * @return true if a translation exists, false otherwise
+     */
+    public boolean hasTranslation(String key) {
+        return table.containsKey(key);
+    }
+
+    /**
+     * Gets the number of loaded translation keys.
+     *
+     * @return The number of keys
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Checks whether the translations of this translator are memory-mapped rather than held on the heap.
+     * A mapped translator decodes each translation when it is looked up.
+     *
+     * @return true if the translations are memory-mapped
+     * @see #setMappedStoreDirectory(Path)
+     */
+    public boolean isMapped() {
+        return table instanceof MappedKeyTable;
+    }
+
+    /**
+     * Gets every loaded translation.
+     *
+     * @return An unmodifiable map of translation keys to translations
+     */
+    public Map<String, String> getAllTranslations() {
+        return Collections.unmodifiableMap(table);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyTranslator{" + languageCode + ", " + table.size() + " keys}";
+    }
+}
@@ -0,0 +1,352 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of loaded languages with an optional size bound and idle expiry.
+ * Pinned languages are never evicted. An evicted language is simply loaded again on its next use. A language that
+ * fails to load is remembered as failed for a retry delay, so it is not read again on every request.
+ *
+ * <p>Reads only set a per-entry flag. Recency is tracked with the CLOCK approximation: each clean-up turns the
+ * flags of the entries used since the previous clean-up into a time stamp. A clean-up runs whenever a language is
+ * added, and requests for cached languages run one at most once per expiry interval, so idle languages are evicted
+ * without a scheduled task. It can also be triggered with {@link #cleanUp()}.</p>
+ *
+ * <p>Both {@link KeyTranslator} and the Bukkit translator keep their languages in a cache of this type and load
+ * them with {@link #getOrLoad(String, Executor, Loader)}.</p>
+ *
+ * @param <T> The type of the cached values
+ */
+public final class LanguageCache<T> {
+    private static final Duration DEFAULT_RETRY_AFTER_FAILURE = Duration.ofMinutes(1);
+    private static final long MINIMUM_CLEAN_UP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Set<String> pinned = ConcurrentHashMap.newKeySet();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong nextCleanUp = new AtomicLong(System.nanoTime());
+    private volatile int maximumSize = Integer.MAX_VALUE;
+    private volatile long expireAfterAccessNanos;
+    private volatile long retryAfterFailureNanos = DEFAULT_RETRY_AFTER_FAILURE.toNanos();
+
+    /**
+     * Gets the cached future of a language, loading the language on the given executor if it is not cached.
+     * Concurrent requests for the same language share one load. If the load fails, the failed future stays cached
+     * and is returned until the retry delay set with {@link #setRetryAfterFailure(Duration)} has passed, so a
+     * language that cannot be loaded is not read again on every request. Only the first of consecutive failures of
+     * a language is reported.
+     *
+     * @param languageCode The language code
+     * @param executor The executor to load the language on, e.g. {@code Runnable::run} to load on the calling thread
+     * @param loader Loads the language
+     * @return The future of the language
+     */
+    public CompletableFuture<T> getOrLoad(String languageCode, Executor executor, Loader<? extends T> loader) {
+        cleanUpIfDue();
+        while (true) {
+            Entry<T> entry = entries.get(languageCode);
+            Entry<T> created;
+            if (entry == null) {
+                created = new Entry<>(0);
+                if (entries.putIfAbsent(languageCode, created) != null) {
+                    continue;
+                }
+            } else if (entry.isRetryDue(retryAfterFailureNanos)) {
+                created = new Entry<>(entry.failures + 1);
+                if (!entries.replace(languageCode, entry, created)) {
+                    continue;
+                }
+            } else {
+                markAccessed(entry);
+                return entry.future;
+            }
+
+            loadCount.incrementAndGet();
+            cleanUp();
+            try {
+                executor.execute(() -> load(languageCode, created, loader));
+            } catch (RuntimeException e) {
+                entries.remove(languageCode, created);
+                created.future.completeExceptionally(e);
+            }
+            return created.future;
+        }
+    }
+
+    private void load(String languageCode, Entry<T> entry, Loader<? extends T> loader) {
+        try {
+            entry.future.complete(loader.load(languageCode));
+        } catch (IOException | RuntimeException e) {
+            if (entry.failures == 0) {
+                new IOException("Could not load the language " + languageCode, e).printStackTrace();
+            }
+            entry.failedAt = System.nanoTime();
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Gets the cached future of a language and marks it as used.
+     *
+     * @param languageCode The language code
+     * @return The future, or null if the language is not cached
+     */
+    public CompletableFuture<T> get(String languageCode) {
+        cleanUpIfDue();
+        Entry<T> entry = entries.get(languageCode);
+        if (entry == null) {
+            return null;
+        }
+        markAccessed(entry);
+        return entry.future;
+    }
+
+    private static void markAccessed(Entry<?> entry) {
+        if (!entry.accessed) {
+            entry.accessed = true;
+        }
+    }
+
+    /**
+     * Gets the value of a language if it is cached and loaded, without marking it as used.
+     *
+     * @param languageCode The language code
+     * @return The value, or null if the language is not cached or still loading
+     */
+    public T getIfLoaded(String languageCode) {
+        Entry<T> entry = entries.get(languageCode);
+        return entry != null ? loadedValue(entry) : null;
+    }
+
+    /**
+     * Checks if a language is cached, whether it is loaded, still loading or failed, without marking it as used.
+     *
+     * @param languageCode The language code
+     * @return true if the language is cached
+     */
+    public boolean contains(String languageCode) {
+        return entries.containsKey(languageCode);
+    }
+
+    /**
+     * Gets the values of all cached languages that are loaded, without marking them as used.
+     *
+     * @return The loaded values
+     */
+    public List<T> loadedValues() {
+        List<T> values = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries.values()) {
+            T value = loadedValue(entry);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private T loadedValue(Entry<T> entry) {
+        CompletableFuture<T> future = entry.future;
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Evicts a language, even if it is pinned.
+     *
+     * @param languageCode The language code
+     * @return true if the language was cached
+     */
+    public boolean invalidate(String languageCode) {
+        if (entries.remove(languageCode) == null) {
+            return false;
+        }
+        evictionCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Forgets the languages whose last load failed, so their next request loads them again without waiting for the
+     * retry delay, e.g. after a new source of languages was added.
+     */
+    public void invalidateFailures() {
+        entries.values().removeIf(Entry::isFailed);
+    }
+
+    /**
+     * Keeps a language in the cache even when it is idle or the cache is over its size bound.
+     *
+     * @param languageCode The language code
+     */
+    public void pin(String languageCode) {
+        pinned.add(languageCode);
+    }
+
+    /**
+     * Allows a pinned language to be evicted again.
+     *
+     * @param languageCode The language code
+     */
+    public void unpin(String languageCode) {
+        pinned.remove(languageCode);
+    }
+
+    /**
+     * Sets the number of languages above which the least recently used ones are evicted.
+     *
+     * @param maximumSize The maximum number of languages
+     * @throws IllegalArgumentException If the size is not positive
+     */
+    public void setMaximumSize(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        cleanUp();
+    }
+
+    /**
+     * Sets how long a language may go unused before it is evicted.
+     *
+     * @param duration The idle time, or null to keep idle languages
+     * @throws IllegalArgumentException If the duration is negative
+     */
+    public void setExpireAfterAccess(Duration duration) {
+        if (duration != null && duration.isNegative()) {
+            throw new IllegalArgumentException("duration must not be negative: " + duration);
+        }
+        this.expireAfterAccessNanos = duration == null ? 0 : duration.toNanos();
+        cleanUp();
+    }
+
+    /**
+     * Sets how long a language whose load failed is served from the cache as failed before it is loaded again.
+     * The default is one minute.
+     *
+     * @param delay The delay before a failed language is loaded again
+     * @throws IllegalArgumentException If the delay is negative
+     */
+    public void setRetryAfterFailure(Duration delay) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative: " + delay);
+        }
+        this.retryAfterFailureNanos = delay.toNanos();
+    }
+
+    /**
+     * Gets the statistics of this cache.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(entries.size(), loadCount.get(), evictionCount.get());
+    }
+
+    /**
+     * Evicts idle languages and, if the cache is over its size bound, the least recently used ones.
+     * Languages that failed to load expire once they have not been requested for the retry delay, even if idle
+     * languages are kept. Languages that are still loading and pinned languages are never evicted.
+     */
+    public synchronized void cleanUp() {
+        long now = System.nanoTime();
+        long expireAfter = expireAfterAccessNanos;
+        long retryAfter = retryAfterFailureNanos;
+        for (Iterator<Map.Entry<String, Entry<T>>> iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, Entry<T>> mapEntry = iterator.next();
+            Entry<T> entry = mapEntry.getValue();
+            if (entry.accessed) {
+                entry.accessed = false;
+                entry.lastAccess = now;
+            } else if ((entry.isFailed() ? now - entry.lastAccess >= retryAfter
+                    : expireAfter > 0 && now - entry.lastAccess >= expireAfter) && isEvictable(mapEntry)) {
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        while (entries.size() > maximumSize) {
+            Map.Entry<String, Entry<T>> victim = null;
+            for (Map.Entry<String, Entry<T>> mapEntry : entries.entrySet()) {
+                if (isEvictable(mapEntry) && (victim == null || mapEntry.getValue().lastAccess - victim.getValue().lastAccess < 0)) {
+                    victim = mapEntry;
+                }
+            }
+            if (victim == null || !entries.remove(victim.getKey(), victim.getValue())) {
+                return;
+            }
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Runs a clean-up if none has run for the shorter of the expiry interval and the retry delay.
+     * Only one of the threads that find a clean-up due runs it.
+     */
+    private void cleanUpIfDue() {
+        long now = System.nanoTime();
+        long due = nextCleanUp.get();
+        if (now - due >= 0 && nextCleanUp.compareAndSet(due, now + cleanUpInterval())) {
+            cleanUp();
+        }
+    }
+
+    private long cleanUpInterval() {
+        long expireAfter = expireAfterAccessNanos;
+        long interval = expireAfter > 0 ? Math.min(expireAfter, retryAfterFailureNanos) : retryAfterFailureNanos;
+        return Math.max(interval, MINIMUM_CLEAN_UP_INTERVAL_NANOS);
+    }
+
+    private boolean isEvictable(Map.Entry<String, Entry<T>> mapEntry) {
+        return !pinned.contains(mapEntry.getKey()) && mapEntry.getValue().future.isDone();
+    }
+
+    /**
+     * Loads a language for the cache.
+     *
+     * @param <T> The type of the loaded values
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        /**
+         * Loads a language.
+         *
+         * @param languageCode The language code
+         * @return The loaded value
+         * @throws IOException If the language cannot be loaded
+         */
+        T load(String languageCode) throws IOException;
+    }
+
+    private static final class Entry<T> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final int failures;
+        volatile boolean accessed;
+        volatile long lastAccess = System.nanoTime();
+        volatile long failedAt;
+
+        /**
+         * @param failures The number of consecutive failed loads of the language before this one
+         */
+        Entry(int failures) {
+            this.failures = failures;
+        }
+
+        boolean isFailed() {
+            return future.isCompletedExceptionally();
+        }
+
+        boolean isRetryDue(long retryAfterFailureNanos) {
+            return isFailed() && System.nanoTime() - failedAt >= retryAfterFailureNanos;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A streaming reader for Minecraft language files.
+ * The file is tokenized directly from its UTF-8 bytes and only entries whose key starts with one of the
+ * requested prefixes are decoded, so the rest of the file never becomes Java objects.
+ */
+final class LanguageFileReader {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[][] prefixes;
+    private byte[] scratch = new byte[256];
+    private int length;
+    private long consumed;
+
+    private LanguageFileReader(ReadableByteChannel channel, ByteBuffer buffer, String[] prefixes) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.prefixes = new byte[prefixes.length][];
+        for (int i = 0; i < prefixes.length; i++) {
+            this.prefixes[i] = prefixes[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads the entries of a language file whose keys start with one of the given prefixes.
+     *
+     * @param inputStream The stream to read the language file from
+     * @param prefixes The key prefixes to keep
+     * @return A map of the kept keys to their values
+     * @throws IOException If the stream cannot be read or the file is malformed
+     */
+    static Map<String, String> read(InputStream inputStream, String... prefixes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.flip();
+        return new LanguageFileReader(Channels.newChannel(inputStream), buffer, prefixes).readObject();
+    }
+
+    /**
+     * Reads the entries of an in-memory language file whose keys start with one of the given prefixes.
+     *
+     * @param buffer The buffer holding the whole language file
+     * @param prefixes The key prefixes to keep
+     * @return A map of the kept keys to their values
+     * @throws IOException If the file is malformed
+     */
+    static Map<String, String> read(ByteBuffer buffer, String... prefixes) throws IOException {
+        return new LanguageFileReader(null, buffer.slice(), prefixes).readObject();
+    }
+
+    /**
+     * Reads the object hashes of a Minecraft asset index whose paths start with one of the given prefixes.
+     * Asset indexes map asset paths such as {@code minecraft/lang/ja_jp.json} to the hash under which the file is
+     * stored in the {@code objects} directory.
+     *
+     * @param buffer The buffer holding the whole asset index
+     * @param pathPrefixes The asset path prefixes to keep
+     * @return A map of the kept asset paths to their hashes
+     * @throws IOException If the index is malformed
+     */
+    static Map<String, String> readAssetIndex(ByteBuffer buffer, String... pathPrefixes) throws IOException {
+        return new LanguageFileReader(null, buffer.slice(), pathPrefixes).readAssetObjects();
+    }
+
+    private Map<String, String> readObject() throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        skipByteOrderMark();
+        expect('{');
+        for (boolean first = true; nextMember(first); first = false) {
+            if (!matchesPrefix()) {
+                skipValue();
+                continue;
+            }
+            String key = decodeScratch();
+            if (skipWhitespace() == '"') {
+                next();
+                readString();
+                entries.put(key, decodeScratch());
+            } else {
+                skipValue();
+            }
+        }
+        return entries;
+    }
+
+    private Map<String, String> readAssetObjects() throws IOException {
+        Map<String, String> hashes = new HashMap<>();
+        skipByteOrderMark();
+        expect('{');
+        for (boolean first = true; nextMember(first); first = false) {
+            if (!scratchEquals("objects")) {
+                skipValue();
+                continue;
+            }
+            expect('{');
+            for (boolean firstObject = true; nextMember(firstObject); firstObject = false) {
+                if (!matchesPrefix()) {
+                    skipValue();
+                    continue;
+                }
+                String path = decodeScratch();
+                expect('{');
+                for (boolean firstField = true; nextMember(firstField); firstField = false) {
+                    if (scratchEquals("hash") && skipWhitespace() == '"') {
+                        next();
+                        readString();
+                        hashes.put(path, decodeScratch());
+                    } else {
+                        skipValue();
+                    }
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (peek() == 0xEF) {
+            next();
+            next();
+            next();
+        }
+    }
+
+    /**
+     * Moves to the next member of the current object and reads its key into the scratch buffer.
+     *
+     * @param first Whether this is the first member of the object
+     * @return true if a member was read, false if the end of the object was reached
+     */
+    private boolean nextMember(boolean first) throws IOException {
+        int c = skipWhitespace();
+        if (c == '}') {
+            next();
+            return false;
+        }
+        if (!first) {
+            if (c != ',') {
+                throw malformed("',' or '}'");
+            }
+            next();
+        }
+        expect('"');
+        readString();
+        expect(':');
+        return true;
+    }
+
+    private boolean scratchEquals(String ascii) {
+        if (length != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (scratch[i] != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decodeScratch() {
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean matchesPrefix() {
+        for (byte[] prefix : prefixes) {
+            if (length >= prefix.length && Arrays.equals(scratch, 0, prefix.length, prefix, 0, prefix.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been consumed into the scratch buffer as UTF-8.
+     */
+    private void readString() throws IOException {
+        length = 0;
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                readEscape();
+            } else if (c < 0) {
+                throw malformed("'\"'");
+            } else {
+                append(c);
+            }
+        }
+    }
+
+    private void readEscape() throws IOException {
+        int c = next();
+        switch (c) {
+            case '"': case '\\': case '/': append(c); break;
+            case 'b': append('\b'); break;
+            case 'f': append('\f'); break;
+            case 'n': append('\n'); break;
+            case 'r': append('\r'); break;
+            case 't': append('\t'); break;
+            case 'u': appendCodePoint(readUnicodeEscape()); break;
+            default: throw malformed("escape sequence");
+        }
+    }
+
+    private int readUnicodeEscape() throws IOException {
+        int high = readHex();
+        if (!Character.isHighSurrogate((char) high)) {
+            return high;
+        }
+        if (next() != '\\' || next() != 'u') {
+            throw malformed("low surrogate");
+        }
+        int low = readHex();
+        return Character.toCodePoint((char) high, (char) low);
+    }
+
+    private int readHex() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw malformed("hex digit");
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            append(codePoint);
+        } else if (codePoint < 0x800) {
+            append(0xC0 | (codePoint >> 6));
+            append(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            append(0xE0 | (codePoint >> 12));
+            append(0x80 | ((codePoint >> 6) & 0x3F));
+            append(0x80 | (codePoint & 0x3F));
+        } else {
+            append(0xF0 | (codePoint >> 18));
+            append(0x80 | ((codePoint >> 12) & 0x3F));
+            append(0x80 | ((codePoint >> 6) & 0x3F));
+            append(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void append(int b) {
+        if (length == scratch.length) {
+            scratch = Arrays.copyOf(scratch, length * 2);
+        }
+        scratch[length++] = (byte) b;
+    }
+
+    /**
+     * Skips a value of any type, including nested objects and arrays.
+     */
+    private void skipValue() throws IOException {
+        int depth = 0;
+        while (true) {
+            int c = peek();
+            if (c < 0) {
+                throw malformed("value");
+            }
+            if (depth == 0 && (c == ',' || c == '}' || c == ']')) {
+                return;
+            }
+            next();
+            if (c == '"') {
+                skipString();
+                if (depth == 0) {
+                    return;
+                }
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return;
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                next();
+            } else if (c < 0) {
+                throw malformed("'\"'");
+            }
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        if (skipWhitespace() != expected) {
+            throw malformed("'" + expected + "'");
+        }
+        next();
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            next();
+            c = peek();
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    private int next() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        consumed++;
+        return buffer.get() & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        if (channel == null) {
+            return false;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private IOException malformed(String expected) {
+        return new IOException("Malformed language file: expected " + expected + " at byte " + consumed);
+    }
+}
@@ -0,0 +1,177 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reads the translation keys of a language from the language sources, the bundled files and the override directory,
+ * and stores them on the heap or in a shared memory-mapped file.
+ * The sources, the override directory and the mapped store directory are shared by every translator in the JVM.
+ */
+final class LanguageLoader {
+    private static final List<LanguageSource> languageSources = new CopyOnWriteArrayList<>();
+    private static final Set<LanguageSource> failedSources = ConcurrentHashMap.newKeySet();
+    private static volatile Path overrideDirectory;
+    private static volatile Path mappedStoreDirectory;
+
+    private LanguageLoader() {
+    }
+
+    static void addLanguageSource(LanguageSource source) {
+        languageSources.add(Objects.requireNonNull(source, "source"));
+    }
+
+    static void removeLanguageSource(LanguageSource source) {
+        languageSources.remove(source);
+        failedSources.remove(source);
+    }
+
+    static void setOverrideDirectory(Path directory) {
+        overrideDirectory = directory;
+    }
+
+    static Path getOverrideDirectory() {
+        return overrideDirectory;
+    }
+
+    static void setMappedStoreDirectory(Path directory) {
+        mappedStoreDirectory = directory;
+    }
+
+    static Path getMappedStoreDirectory() {
+        return mappedStoreDirectory;
+    }
+
+    /**
+     * Stores the translation keys of a language for lookups: in a {@link MappedKeyTable} if a mapped store
+     * directory is set, otherwise in a {@link KeyTable} on the heap.
+     *
+     * @param languageCode The language code of the entries
+     * @param entries The translation keys and values, which may be discarded afterwards
+     * @return An immutable map of the translation keys to values
+     * @throws IOException If the mapped file cannot be written or mapped
+     */
+    static Map<String, String> freeze(String languageCode, Map<String, String> entries) throws IOException {
+        Path directory = mappedStoreDirectory;
+        return directory != null ? MappedKeyTable.share(directory, languageCode, entries) : KeyTable.of(entries);
+    }
+
+    /**
+     * Reads the translation keys of a language.
+     * The keys are read from the first language source that has the language, or else from the files bundled with
+     * this library: the precompiled language pack when it covers the requested prefixes, otherwise the JSON file.
+     * Keys from the override directory, if one is set, replace them.
+     *
+     * @param languageCode The language code to read
+     * @param keyPrefixes The key prefixes to keep
+     * @return A mutable map of translation keys to values
+     * @throws IOException If the language is not available from any source, or cannot be read
+     */
+    static Map<String, String> readEntries(String languageCode, String... keyPrefixes) throws IOException {
+        if (languageCode.isEmpty() || languageCode.indexOf('/') >= 0 || languageCode.indexOf('\\') >= 0
+                || languageCode.indexOf('.') >= 0) {
+            throw new IOException("Invalid language code: " + languageCode);
+        }
+
+        Map<String, String> entries = readSourceEntries(languageCode, keyPrefixes);
+        if (entries == null) {
+            entries = readBundledEntries(languageCode, keyPrefixes);
+        }
+        Path directory = overrideDirectory;
+        if (directory != null) {
+            Path overrideFile = directory.resolve(languageCode + ".json");
+            if (Files.isRegularFile(overrideFile)) {
+                Map<String, String> overrides;
+                try (InputStream inputStream = Files.newInputStream(overrideFile)) {
+                    overrides = LanguageFileReader.read(inputStream, keyPrefixes);
+                }
+                if (entries == null) {
+                    entries = overrides;
+                } else {
+                    entries.putAll(overrides);
+                }
+            }
+        }
+
+        if (entries == null) {
+            throw new IOException("Could not find lang/" + languageCode + ".json");
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the translation keys of a language from the first language source that has it.
+     * A source that fails to read the language is treated as not having it, so one broken source does not prevent
+     * the other sources and the bundled files from being used. The first failure of each source is reported.
+     */
+    private static Map<String, String> readSourceEntries(String languageCode, String[] keyPrefixes) {
+        for (LanguageSource source : languageSources) {
+            try {
+                ByteBuffer buffer = source.read(languageCode);
+                if (buffer != null) {
+                    return LanguageFileReader.read(buffer, keyPrefixes);
+                }
+            } catch (IOException | RuntimeException e) {
+                if (failedSources.add(source)) {
+                    new IOException("Skipping the language source " + source + " that cannot be read", e)
+                            .printStackTrace();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> readBundledEntries(String languageCode, String[] keyPrefixes) throws IOException {
+        ClassLoader classLoader = LanguageLoader.class.getClassLoader();
+        if (isCoveredByPacks(keyPrefixes)) {
+            try (InputStream packStream = classLoader.getResourceAsStream("lang/" + languageCode + LanguagePack.EXTENSION)) {
+                if (packStream != null) {
+                    Map<String, String> entries = LanguagePack.read(ByteBuffer.wrap(packStream.readAllBytes()));
+                    if (!Arrays.equals(keyPrefixes, TranslationKeys.DOMAIN_PREFIXES)) {
+                        entries.keySet().removeIf(key -> !startsWithAny(key, keyPrefixes));
+                    }
+                    return entries;
+                }
+            }
+        }
+
+        try (InputStream inputStream = classLoader.getResourceAsStream("lang/" + languageCode + ".json")) {
+            if (inputStream == null) {
+                return null;
+            }
+            return LanguageFileReader.read(inputStream, keyPrefixes);
+        }
+    }
+
+    /**
+     * Checks whether the precompiled packs hold every key with the given prefixes.
+     * Packs only contain the keys of {@link TranslationKeys#DOMAIN_PREFIXES}.
+     */
+    private static boolean isCoveredByPacks(String[] keyPrefixes) {
+        for (String keyPrefix : keyPrefixes) {
+            if (!startsWithAny(keyPrefix, TranslationKeys.DOMAIN_PREFIXES)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWithAny(String value, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (value.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Binary language packs precompiled from the JSON language files at build time.
+ * A pack only contains the keys of the domains listed in {@link TranslationKeys#DOMAIN_PREFIXES}.
+ *
+ * <p>Layout (big-endian): the magic {@code MCTP}, a format version, the number of entries, and then for each
+ * entry the UTF-8 key and value, each preceded by its length as an unsigned short.</p>
+ */
+final class LanguagePack {
+    static final String EXTENSION = ".pack";
+    private static final int MAGIC = 0x4D435450;
+    private static final short VERSION = 1;
+
+    private LanguagePack() {
+    }
+
+    /**
+     * Encodes the given entries into a pack. Entries are written in key order so builds are reproducible.
+     *
+     * @param entries The translation keys and values
+     * @return The encoded pack
+     */
+    static ByteBuffer write(Map<String, String> entries) {
+        int count = entries.size();
+        byte[][] keys = new byte[count][];
+        byte[][] values = new byte[count][];
+        int size = 10;
+        int index = 0;
+        for (Map.Entry<String, String> entry : new TreeMap<>(entries).entrySet()) {
+            keys[index] = encode(entry.getKey());
+            values[index] = encode(entry.getValue());
+            size += 4 + keys[index].length + values[index].length;
+            index++;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putShort(VERSION).putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putShort((short) keys[i].length).put(keys[i]);
+            buffer.putShort((short) values[i].length).put(values[i]);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a pack.
+     *
+     * @param buffer The buffer holding the whole pack
+     * @return A map of translation keys to values
+     * @throws IOException If the buffer does not hold a valid pack
+     */
+    static Map<String, String> read(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IOException("Not a language pack or unsupported pack version");
+            }
+            int count = buffer.getInt();
+            Map<String, String> entries = new HashMap<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                String key = decode(buffer);
+                entries.put(key, decode(buffer));
+            }
+            return entries;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated language pack", e);
+        }
+    }
+
+    private static byte[] encode(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Entry too long for a language pack: " + text.substring(0, 32));
+        }
+        return bytes;
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (!buffer.hasArray()) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return text;
+    }
+}
@@ -0,0 +1,57 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Build tool that precompiles the JSON language files into binary language packs.
+ * It is run by Maven during the {@code process-classes} phase.
+ */
+public final class LanguagePackCompiler {
+    private LanguagePackCompiler() {
+    }
+
+    /**
+     * Compiles every {@code *.json} file of the source directory into a {@code *.pack} file in the output directory.
+     *
+     * @param args The source directory and the output directory
+     * @throws IOException If a language file cannot be read or a pack cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LanguagePackCompiler <source dir> <output dir>");
+        }
+        Path source = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        Files.createDirectories(output);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(source, "*.json")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String languageCode = fileName.substring(0, fileName.length() - ".json".length());
+
+                Map<String, String> entries;
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    entries = LanguageFileReader.read(inputStream, TranslationKeys.DOMAIN_PREFIXES);
+                }
+
+                ByteBuffer pack = LanguagePack.write(entries);
+                Path target = output.resolve(languageCode + LanguagePack.EXTENSION);
+                try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    while (pack.hasRemaining()) {
+                        channel.write(pack);
+                    }
+                }
+                System.out.println("Compiled " + fileName + " (" + entries.size() + " keys) to " + target);
+            }
+        }
+    }
+}
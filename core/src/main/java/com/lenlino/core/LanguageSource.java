@@ -0,0 +1,60 @@
+package com.lenlino.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * A source of Minecraft language files outside this library, registered with
+ * {@link KeyTranslator#addLanguageSource(LanguageSource)}. Sources are shared by every translator in the JVM.
+ * Languages are read from a source on demand, the first time each language is requested.
+ */
+public interface LanguageSource extends Closeable {
+    /**
+     * Reads the language file of a language.
+     *
+     * @param languageCode The language code, e.g. "ja_jp"
+     * @return A buffer holding the UTF-8 JSON language file, or null if this source does not have the language
+     * @throws IOException If the source or the language file cannot be read; the language is then read from the next
+     *                     source or the bundled files, as if this source did not have it
+     */
+    ByteBuffer read(String languageCode) throws IOException;
+
+    /**
+     * Releases the resources held by this source.
+     *
+     * @throws IOException If the resources cannot be released
+     */
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Creates a source that reads language files from the asset store of a Minecraft installation, such as
+     * {@code .minecraft/assets}. The language files are stored under their hash in {@code objects/} and are
+     * resolved through the asset index, e.g. {@code indexes/8.json}. Files are memory-mapped rather than copied.
+     *
+     * <p>The asset store contains every language except en_us, which is part of the client JAR.</p>
+     *
+     * @param assetsDirectory The assets directory
+     * @param indexName The name of the asset index without extension, e.g. "8"
+     * @return The language source
+     */
+    static LanguageSource assetIndex(Path assetsDirectory, String indexName) {
+        return new AssetIndexLanguageSource(assetsDirectory, indexName);
+    }
+
+    /**
+     * Creates a source that reads language files from a ZIP file, such as a resource pack or a bundle of language
+     * files. Files are looked up as {@code assets/minecraft/lang/<language code>.json} and
+     * {@code lang/<language code>.json}. The ZIP file is opened as a file system and kept open until the source is
+     * closed.
+     *
+     * @param zipFile The ZIP file
+     * @return The language source
+     */
+    static LanguageSource zip(Path zipFile) {
+        return new ZipLanguageSource(zipFile);
+    }
+}
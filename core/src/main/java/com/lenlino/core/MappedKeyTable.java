@@ -0,0 +1,337 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable map of translation keys to values stored as UTF-8 in a memory-mapped file.
+ * The file is written once per language and content, and every JVM on the host that loads the same language maps
+ * the same file, so the translations live once in the page cache instead of once per heap. Values are decoded on
+ * each lookup; recently decoded values are kept in a small cache shared by all tables, so the heap used does not
+ * grow with the number of languages.
+ *
+ * <p>The file starts with a header (magic, version, entry count, slot count), followed by an open-addressed table
+ * of record offsets and the records themselves. A record holds the hash of the key, the UTF-8 lengths of key and
+ * value, and their bytes.</p>
+ */
+final class MappedKeyTable extends AbstractMap<String, String> {
+    static final String EXTENSION = ".keys";
+
+    private static final int MAGIC = 0x4D434B54; // "MCKT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int HOT_CACHE_SIZE = 4096;
+
+    private static final HotEntry[] hotCache = new HotEntry[HOT_CACHE_SIZE];
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final ByteBuffer buffer;
+    private final int id = nextId.incrementAndGet();
+    private final int size;
+    private final int mask;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    private MappedKeyTable(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a translation key file");
+        }
+        int capacity = buffer.getInt(12);
+        if (Integer.bitCount(capacity) != 1 || HEADER_SIZE + 4L * capacity > buffer.limit()) {
+            throw new IOException("Corrupt translation key file");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(8);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Maps the shared file of a language, writing it first if no JVM has written this content yet.
+     * Files of the same language with other content are deleted, which does not affect JVMs that still map them.
+     *
+     * @param directory The directory shared by the JVMs
+     * @param languageCode The language code of the entries
+     * @param entries The translation keys and values
+     * @return The mapped table
+     * @throws IOException If the file cannot be written or mapped
+     */
+    static MappedKeyTable share(Path directory, String languageCode, Map<String, String> entries) throws IOException {
+        Path file = directory.resolve(languageCode + "." + Long.toHexString(fingerprint(entries)) + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            write(file, entries);
+            deleteOthers(directory, languageCode, file);
+        }
+        try {
+            return open(file);
+        } catch (NoSuchFileException e) {
+            // Deleted by a JVM that loaded other content for this language, e.g. with other overrides
+            write(file, entries);
+            return open(file);
+        }
+    }
+
+    /**
+     * Maps a translation key file read-only.
+     *
+     * @param file The file
+     * @return The mapped table
+     * @throws IOException If the file cannot be mapped or is not a translation key file
+     */
+    static MappedKeyTable open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedKeyTable(buffer.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    /**
+     * Writes the entries to a temporary file next to the target and moves it into place atomically, so other JVMs
+     * never map a partially written file. If another JVM wins the race, its file is kept.
+     */
+    private static void write(Path file, Map<String, String> entries) throws IOException {
+        int capacity = Integer.highestOneBit(Math.max(entries.size(), 8) * 2 - 1) << 1;
+        byte[][] keys = new byte[entries.size()][];
+        byte[][] values = new byte[entries.size()][];
+        int[] hashes = new int[entries.size()];
+        long length = HEADER_SIZE + 4L * capacity;
+        int count = 0;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            keys[count] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            values[count] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            hashes[count] = entry.getKey().hashCode();
+            length += RECORD_HEADER_SIZE + keys[count].length + values[count].length;
+            count++;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Too many translations to map: " + entries.size());
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) length);
+        out.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(capacity);
+        int recordOffset = HEADER_SIZE + 4 * capacity;
+        out.position(recordOffset);
+        for (int i = 0; i < count; i++) {
+            int slot = spread(hashes[i]) & (capacity - 1);
+            while (out.getInt(HEADER_SIZE + 4 * slot) != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            out.putInt(HEADER_SIZE + 4 * slot, out.position());
+            out.putInt(hashes[i]).putInt(keys[i].length).putInt(values[i].length).put(keys[i]).put(values[i]);
+        }
+        out.flip();
+
+        Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            if (!Files.isRegularFile(file)) {
+                throw e;
+            }
+            // Another JVM moved the same content into place first, and it cannot be replaced while mapped
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void deleteOthers(Path directory, String languageCode, Path keep) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, languageCode + ".*" + EXTENSION)) {
+            for (Path file : files) {
+                if (!file.equals(keep)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            // Still mapped on a platform that locks mapped files; it is deleted by a later write
+        }
+    }
+
+    /**
+     * Hashes the content of a map independently of its iteration order, so every JVM that loads the same
+     * translations derives the same file name.
+     */
+    private static long fingerprint(Map<String, String> entries) {
+        long fingerprint = VERSION;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            long hash = ((long) entry.getKey().hashCode() << 32) ^ (entry.getValue().hashCode() & 0xFFFFFFFFL);
+            hash *= 0x9E3779B97F4A7C15L;
+            fingerprint += hash ^ (hash >>> 29);
+        }
+        return fingerprint * 31 + entries.size();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Finds the record of a key.
+     *
+     * @return The slot of the record, or -1 if the key is not present
+     */
+    private int find(String key) {
+        int hash = key.hashCode();
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int record = buffer.getInt(HEADER_SIZE + 4 * slot);
+            if (record == 0) {
+                return -1;
+            }
+            if (buffer.getInt(record) == hash && keyEquals(record, key)) {
+                return slot;
+            }
+        }
+    }
+
+    private boolean keyEquals(int record, String key) {
+        int keyLength = buffer.getInt(record + 4);
+        int start = record + RECORD_HEADER_SIZE;
+        if (keyLength == key.length()) {
+            boolean ascii = true;
+            for (int i = 0; i < keyLength && ascii; i++) {
+                char c = key.charAt(i);
+                if (c >= 0x80) {
+                    ascii = false;
+                } else if (buffer.get(start + i) != c) {
+                    return false;
+                }
+            }
+            if (ascii) {
+                return true;
+            }
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length != keyLength) {
+            return false;
+        }
+        for (int i = 0; i < keyLength; i++) {
+            if (buffer.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int slot) {
+        int cacheIndex = (id * 0x9E3779B9 + slot) & (HOT_CACHE_SIZE - 1);
+        HotEntry cached = hotCache[cacheIndex];
+        if (cached != null && cached.tableId == id && cached.slot == slot) {
+            return cached.value;
+        }
+        int record = buffer.getInt(HEADER_SIZE + 4 * slot);
+        String value = decodeString(record + RECORD_HEADER_SIZE + buffer.getInt(record + 4), buffer.getInt(record + 8));
+        hotCache[cacheIndex] = new HotEntry(id, slot, value);
+        return value;
+    }
+
+    private String decodeString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int slot = find((String) key);
+        return slot >= 0 ? decode(slot) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && find((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the entries, decoding every key and value as it is iterated.
+     *
+     * @return The entry set
+     */
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private int slot = advance(0);
+
+        private int advance(int from) {
+            while (from <= mask && buffer.getInt(HEADER_SIZE + 4 * from) == 0) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot <= mask;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (slot > mask) {
+                throw new NoSuchElementException();
+            }
+            int record = buffer.getInt(HEADER_SIZE + 4 * slot);
+            String key = decodeString(record + RECORD_HEADER_SIZE, buffer.getInt(record + 4));
+            Map.Entry<String, String> entry = new SimpleImmutableEntry<>(key, decode(slot));
+            slot = advance(slot + 1);
+            return entry;
+        }
+    }
+
+    /**
+     * A decoded value in the hot cache. Entries are immutable, so a racing reader sees either a whole entry or none.
+     */
+    private static final class HotEntry {
+        final int tableId;
+        final int slot;
+        final String value;
+
+        HotEntry(int tableId, int slot, String value) {
+            this.tableId = tableId;
+            this.slot = slot;
+            this.value = value;
+        }
+    }
+}
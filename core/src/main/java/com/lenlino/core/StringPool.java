@@ -0,0 +1,108 @@
+package com.lenlino.core;
+
+import java.lang.ref.Cleaner;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A JVM-wide pool of translation strings shared by all translator instances.
+ * Equal translations of different languages (e.g. en_us and en_gb) are stored once. Each pooled string counts the
+ * tables that use it and is released when the last of them becomes unreachable, so the pool and its savings always
+ * describe the languages that are currently loaded.
+ */
+final class StringPool {
+    private static final Cleaner cleaner = Cleaner.create();
+    private static final Map<String, Entry> pool = new HashMap<>();
+    private static long bytesSaved;
+
+    private StringPool() {
+    }
+
+    /**
+     * Replaces every non-null element of the array with the pooled instance of an equal string.
+     * The strings are released from the pool once the owner of the array becomes unreachable.
+     *
+     * @param owner The object holding the array, e.g. a key table
+     * @param values The array whose elements are pooled; it must not be modified afterwards
+     */
+    static void internValues(Object owner, String[] values) {
+        synchronized (StringPool.class) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    values[i] = acquire(values[i]);
+                }
+            }
+        }
+        cleaner.register(owner, () -> release(values));
+    }
+
+    private static String acquire(String value) {
+        Entry entry = pool.get(value);
+        if (entry == null) {
+            pool.put(value, new Entry(value));
+            return value;
+        }
+        entry.references++;
+        bytesSaved += entry.size;
+        return entry.value;
+    }
+
+    private static synchronized void release(String[] values) {
+        for (String value : values) {
+            Entry entry = value != null ? pool.get(value) : null;
+            if (entry == null) {
+                continue;
+            }
+            if (--entry.references == 0) {
+                pool.remove(value);
+            } else {
+                bytesSaved -= entry.size;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of distinct strings currently in the pool.
+     *
+     * @return The number of pooled strings
+     */
+    static synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Gets the estimated heap size of the copies that the pooled strings currently replace: for each string, its
+     * size times the number of tables using it beyond the first.
+     *
+     * @return The estimated number of bytes saved
+     */
+    static synchronized long bytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Estimates the retained size of a string on a 64-bit JVM with compressed pointers and compact strings:
+     * a 24-byte String object plus a byte array with a 16-byte header, padded to 8 bytes.
+     */
+    private static long estimateSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + ((16L + (long) value.length() * bytesPerChar + 7) & ~7L);
+    }
+
+    private static final class Entry {
+        final String value;
+        final long size;
+        int references = 1;
+
+        Entry(String value) {
+            this.value = value;
+            this.size = estimateSize(value);
+        }
+    }
+}
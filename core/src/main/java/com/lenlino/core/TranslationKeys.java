@@ -0,0 +1,35 @@
+package com.lenlino.core;
+
+/**
+ * Translation key prefixes of the domains handled by this library.
+ */
+public final class TranslationKeys {
+    public static final String BLOCK_PREFIX = "block.minecraft.";
+    public static final String ITEM_PREFIX = "item.minecraft.";
+    public static final String ENTITY_PREFIX = "entity.minecraft.";
+    public static final String EFFECT_PREFIX = "effect.minecraft.";
+    public static final String ENCHANTMENT_PREFIX = "enchantment.minecraft.";
+    public static final String ENCHANTMENT_LEVEL_PREFIX = "enchantment.level.";
+    public static final String POTION_POTENCY_PREFIX = "potion.potency.";
+    public static final String EFFECT_DURATION_PREFIX = "effect.duration.";
+    public static final String EFFECT_DURATION_INFINITE = EFFECT_DURATION_PREFIX + "infinite";
+
+    /**
+     * All prefixes whose keys are loaded from language files. Other keys are skipped.
+     */
+    static final String[] DOMAIN_PREFIXES = {BLOCK_PREFIX, ITEM_PREFIX, ENTITY_PREFIX, EFFECT_PREFIX, ENCHANTMENT_PREFIX,
+            ENCHANTMENT_LEVEL_PREFIX, POTION_POTENCY_PREFIX, EFFECT_DURATION_PREFIX};
+
+    private TranslationKeys() {
+    }
+
+    /**
+     * Gets the prefixes of the keys that {@link KeyTranslator#getInstance(String)} loads, and that the precompiled
+     * language packs contain.
+     *
+     * @return A new array of the key prefixes
+     */
+    public static String[] domainPrefixes() {
+        return DOMAIN_PREFIXES.clone();
+    }
+}
@@ -0,0 +1,61 @@
+package com.lenlino.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads language files from a ZIP file opened as a file system.
+ */
+final class ZipLanguageSource implements LanguageSource {
+    private static final String[] LANG_DIRECTORIES = {"assets/minecraft/lang/", "lang/"};
+
+    private final Path zipFile;
+    private FileSystem fileSystem;
+
+    ZipLanguageSource(Path zipFile) {
+        this.zipFile = zipFile;
+    }
+
+    @Override
+    public ByteBuffer read(String languageCode) throws IOException {
+        FileSystem zip = fileSystem();
+        for (String directory : LANG_DIRECTORIES) {
+            Path file = zip.getPath(directory + languageCode + ".json");
+            if (Files.isRegularFile(file)) {
+                try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+                    ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+                    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                        // Read until the buffer is full
+                    }
+                    return buffer.flip();
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized FileSystem fileSystem() throws IOException {
+        if (fileSystem == null) {
+            fileSystem = FileSystems.newFileSystem(zipFile);
+        }
+        return fileSystem;
+    }
+
+    @Override
+    public String toString() {
+        return "ZIP file " + zipFile;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (fileSystem != null) {
+            fileSystem.close();
+            fileSystem = null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.lenlino.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the open-addressed key table and the string pool that its values are drawn from.
+ */
+class KeyTableTest {
+    @Test
+    void holdsEveryEntry() {
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put("item.minecraft.item_" + i, "Item " + i);
+        }
+        KeyTable table = KeyTable.of(entries);
+        assertEquals(entries.size(), table.size());
+        assertEquals(entries, table);
+        assertEquals("Item 42", table.get("item.minecraft.item_42"));
+        assertTrue(table.containsKey("item.minecraft.item_999"));
+        assertFalse(table.containsKey("item.minecraft.item_1000"));
+        assertNull(table.get(null));
+    }
+
+    @Test
+    void sharesEmptyTable() {
+        assertSame(KeyTable.of(Map.of()), KeyTable.of(new HashMap<>()));
+        assertEquals(0, KeyTable.of(Map.of()).size());
+    }
+
+    @Test
+    void poolsEqualValues() {
+        KeyTable first = KeyTable.of(Map.of("block.minecraft.stone", new String("Stone")));
+        KeyTable second = KeyTable.of(Map.of("block.minecraft.stone", new String("Stone")));
+        assertSame(first.get("block.minecraft.stone"), second.get("block.minecraft.stone"));
+        assertTrue(StringPool.bytesSaved() > 0);
+    }
+}
@@ -0,0 +1,117 @@
+package com.lenlino.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the public API of the key translator against the bundled en_us file, without a server.
+ */
+class KeyTranslatorTest {
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void resetDirectories() throws IOException {
+        KeyTranslator.setOverrideDirectory(null);
+        KeyTranslator.setMappedStoreDirectory(null);
+    }
+
+    @Test
+    void translatesBundledKeys() {
+        KeyTranslator translator = KeyTranslator.getInstance("en_us");
+        assertEquals("Stone", translator.translate("block.minecraft.stone"));
+        assertEquals("Diamond Sword", translator.getTranslation("item.minecraft.diamond_sword"));
+        assertEquals("block.minecraft.unknown", translator.translate("block.minecraft.unknown"));
+        assertEquals(null, translator.getTranslation("block.minecraft.unknown"));
+    }
+
+    @Test
+    void translatesNamespacedIds() {
+        KeyTranslator translator = KeyTranslator.getInstance("en_us");
+        assertEquals("Diamond", translator.translateId("item", "minecraft:diamond"));
+        assertEquals("Diamond", translator.translateId("item", "diamond"));
+        assertEquals("plugin:diamond", translator.translateId("item", "plugin:diamond"));
+    }
+
+    @Test
+    void cachesInstances() {
+        assertSame(KeyTranslator.getInstance("en_us"), KeyTranslator.getInstance("en_us"));
+        assertTrue(KeyTranslator.getCacheStats().getSize() >= 1);
+    }
+
+    @Test
+    void loadsOnlyRequestedPrefixes() throws IOException {
+        KeyTranslator translator = KeyTranslator.load("en_us", TranslationKeys.ITEM_PREFIX);
+        assertTrue(translator.hasTranslation("item.minecraft.diamond"));
+        assertFalse(translator.hasTranslation("block.minecraft.stone"));
+        assertEquals(5, translator.size());
+    }
+
+    @Test
+    void failsForUnknownLanguages() {
+        CompletableFuture<KeyTranslator> future = KeyTranslator.getInstanceAsync("xx_xx", Runnable::run);
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, KeyTranslator.getInstance("xx_xx").size());
+        assertThrows(IOException.class, () -> KeyTranslator.load("../en_us", TranslationKeys.domainPrefixes()));
+    }
+
+    @Test
+    void createsTranslatorsFromEntries() throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        entries.put("block.example.ore", "Example Ore");
+        KeyTranslator translator = KeyTranslator.of("example", entries);
+        assertEquals("Example Ore", translator.translate("block.example.ore"));
+        assertEquals("example", translator.getLanguageCode());
+        assertThrows(UnsupportedOperationException.class, () -> translator.getAllTranslations().put("a", "b"));
+    }
+
+    @Test
+    void appliesOverrides() throws IOException {
+        Files.writeString(directory.resolve("en_us.json"), "{\"block.minecraft.stone\": \"Rock\"}");
+        KeyTranslator.setOverrideDirectory(directory);
+        KeyTranslator translator = KeyTranslator.load("en_us", TranslationKeys.domainPrefixes());
+        assertEquals("Rock", translator.translate("block.minecraft.stone"));
+        assertEquals("Dirt", translator.translate("block.minecraft.dirt"));
+    }
+
+    @Test
+    void mapsLanguagesFromStoreDirectory() throws IOException {
+        KeyTranslator heap = KeyTranslator.load("en_us", TranslationKeys.domainPrefixes());
+        KeyTranslator.setMappedStoreDirectory(directory.resolve("store"));
+        KeyTranslator mapped = KeyTranslator.load("en_us", TranslationKeys.domainPrefixes());
+        assertFalse(heap.isMapped());
+        assertTrue(mapped.isMapped());
+        assertEquals(heap.getAllTranslations(), mapped.getAllTranslations());
+        assertEquals("Stone", mapped.translate("block.minecraft.stone"));
+    }
+
+    @Test
+    void skipsSourcesThatCannotBeRead() throws IOException {
+        LanguageSource missingIndex = LanguageSource.assetIndex(directory.resolve("assets"), "8");
+        LanguageSource missingZip = LanguageSource.zip(directory.resolve("languages.zip"));
+        KeyTranslator.addLanguageSource(missingIndex);
+        KeyTranslator.addLanguageSource(missingZip);
+        try {
+            KeyTranslator translator = KeyTranslator.load("en_us", TranslationKeys.domainPrefixes());
+            assertEquals("Stone", translator.translate("block.minecraft.stone"));
+            assertThrows(IOException.class, () -> KeyTranslator.load("xx_xx", TranslationKeys.domainPrefixes()));
+        } finally {
+            KeyTranslator.removeLanguageSource(missingIndex);
+            KeyTranslator.removeLanguageSource(missingZip);
+        }
+    }
+}
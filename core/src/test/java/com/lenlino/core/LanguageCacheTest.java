@@ -0,0 +1,94 @@
+package com.lenlino.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks loading, failure handling and eviction of the language cache.
+ */
+class LanguageCacheTest {
+    @Test
+    void sharesOneLoadPerLanguage() {
+        LanguageCache<String> cache = new LanguageCache<>();
+        List<Runnable> pending = new ArrayList<>();
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> first = cache.getOrLoad("en_us", pending::add, code -> code + loads.incrementAndGet());
+        CompletableFuture<String> second = cache.getOrLoad("en_us", pending::add, code -> code + loads.incrementAndGet());
+        assertSame(first, second);
+        assertEquals(1, pending.size());
+        assertNull(cache.getIfLoaded("en_us"));
+
+        pending.get(0).run();
+        assertEquals("en_us1", cache.getIfLoaded("en_us"));
+        assertEquals(1, cache.stats().getLoadCount());
+    }
+
+    @Test
+    void remembersFailedLoadsUntilTheRetryDelay() {
+        LanguageCache<String> cache = new LanguageCache<>();
+        AtomicInteger loads = new AtomicInteger();
+        LanguageCache.Loader<String> failing = code -> {
+            loads.incrementAndGet();
+            throw new IOException("missing");
+        };
+        CompletableFuture<String> failed = cache.getOrLoad("xx_xx", Runnable::run, failing);
+        assertTrue(failed.isCompletedExceptionally());
+        assertSame(failed, cache.getOrLoad("xx_xx", Runnable::run, failing));
+        assertEquals(1, loads.get());
+
+        cache.setRetryAfterFailure(Duration.ZERO);
+        assertEquals("xx_xx", cache.getOrLoad("xx_xx", Runnable::run, code -> code).join());
+    }
+
+    @Test
+    void forgetsFailuresOnRequest() {
+        LanguageCache<String> cache = new LanguageCache<>();
+        cache.getOrLoad("xx_xx", Runnable::run, code -> {
+            throw new IOException("missing");
+        });
+        cache.invalidateFailures();
+        assertNull(cache.get("xx_xx"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUnpinnedLanguages() {
+        LanguageCache<String> cache = new LanguageCache<>();
+        cache.pin("ja_jp");
+        cache.setMaximumSize(2);
+        cache.getOrLoad("ja_jp", Runnable::run, code -> code);
+        cache.getOrLoad("en_us", Runnable::run, code -> code);
+        cache.getOrLoad("de_de", Runnable::run, code -> code);
+
+        assertNotNull(cache.getIfLoaded("ja_jp"));
+        assertEquals(2, cache.stats().getSize());
+        assertEquals(1, cache.stats().getEvictionCount());
+        assertTrue(cache.invalidate("ja_jp"));
+        assertFalse(cache.invalidate("ja_jp"));
+    }
+
+    @Test
+    void evictsIdleLanguagesOnLaterRequests() throws InterruptedException {
+        LanguageCache<String> cache = new LanguageCache<>();
+        cache.setExpireAfterAccess(Duration.ofMillis(1));
+        cache.getOrLoad("en_us", Runnable::run, code -> code);
+        assertNotNull(cache.getIfLoaded("en_us"));
+
+        Thread.sleep(1100);
+        assertNull(cache.get("de_de"));
+        assertNull(cache.getIfLoaded("en_us"));
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+}
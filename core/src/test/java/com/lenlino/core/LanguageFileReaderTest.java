@@ -0,0 +1,56 @@
+package com.lenlino.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the streaming language file reader and the binary language pack against each other.
+ */
+class LanguageFileReaderTest {
+    private static final String FILE = "\ufeff{\n"
+            + "  \"block.minecraft.stone\": \"Stone\",\n"
+            + "  \"gui.done\": \"Done\",\n"
+            + "  \"item.minecraft.paper\": \"\\\"Paper\\\" \\u00e9\\n\",\n"
+            + "  \"item.minecraft.nested\": {\"skipped\": [1, 2, {\"a\": null}]},\n"
+            + "  \"entity.minecraft.pig\": \"\u8c5a\"\n"
+            + "}";
+
+    @Test
+    void keepsOnlyRequestedPrefixes() throws IOException {
+        Map<String, String> entries = LanguageFileReader.read(stream(), TranslationKeys.DOMAIN_PREFIXES);
+        assertEquals(Map.of(
+                "block.minecraft.stone", "Stone",
+                "item.minecraft.paper", "\"Paper\" \u00e9\n",
+                "entity.minecraft.pig", "\u8c5a"), entries);
+    }
+
+    @Test
+    void readsBuffersLikeStreams() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(FILE.getBytes(StandardCharsets.UTF_8));
+        assertEquals(LanguageFileReader.read(stream(), "item."), LanguageFileReader.read(buffer, "item."));
+    }
+
+    @Test
+    void rejectsMalformedFiles() {
+        assertThrows(IOException.class, () -> LanguageFileReader.read(
+                new ByteArrayInputStream("[\"block.minecraft.stone\"]".getBytes(StandardCharsets.UTF_8)), "block."));
+    }
+
+    @Test
+    void packsRoundTrip() throws IOException {
+        Map<String, String> entries = LanguageFileReader.read(stream(), TranslationKeys.DOMAIN_PREFIXES);
+        assertEquals(entries, LanguagePack.read(LanguagePack.write(entries)));
+    }
+
+    private static ByteArrayInputStream stream() {
+        return new ByteArrayInputStream(FILE.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.lenlino.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that memory-mapped key files round-trip their entries and are shared by content.
+ */
+class MappedKeyTableTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryEntry() throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put("entity.minecraft.entity_" + i, "Entity " + i);
+        }
+        entries.put("block.minecraft.stone", "\u77f3");
+        MappedKeyTable table = MappedKeyTable.share(directory, "test", entries);
+        assertEquals(entries.size(), table.size());
+        assertEquals(entries, table);
+        assertEquals("\u77f3", table.get("block.minecraft.stone"));
+        assertNull(table.get("block.minecraft.dirt"));
+        assertFalse(table.containsKey(42));
+    }
+
+    @Test
+    void sharesFilesByContent() throws IOException {
+        MappedKeyTable.share(directory, "test", Map.of("block.minecraft.stone", "Stone"));
+        MappedKeyTable.share(directory, "test", Map.of("block.minecraft.stone", "Stone"));
+        assertEquals(1, files().size());
+
+        MappedKeyTable changed = MappedKeyTable.share(directory, "test", Map.of("block.minecraft.stone", "Rock"));
+        assertEquals(1, files().size());
+        assertEquals("Rock", changed.get("block.minecraft.stone"));
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("other" + MappedKeyTable.EXTENSION), "not a key file");
+        assertThrows(IOException.class, () -> MappedKeyTable.open(file));
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}